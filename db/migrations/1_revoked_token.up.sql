@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS revoked_token
+(
+    id         BIGSERIAL PRIMARY KEY,
+    jti        VARCHAR(64) NOT NULL UNIQUE,
+    expires_at TIMESTAMP   NOT NULL,
+    revoked_at TIMESTAMP   NOT NULL DEFAULT now()
+);
+CREATE INDEX IF NOT EXISTS revoked_token_expires_at_idx ON revoked_token (expires_at);
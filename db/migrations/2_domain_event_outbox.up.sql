@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS domain_event_outbox
+(
+    id              BIGSERIAL PRIMARY KEY,
+    exchange        VARCHAR(255) NOT NULL,
+    routing_key     VARCHAR(255) NOT NULL,
+    type_id         VARCHAR(255) NOT NULL,
+    payload         TEXT         NOT NULL,
+    created_at      TIMESTAMP    NOT NULL DEFAULT now(),
+    attempts        INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP    NOT NULL DEFAULT now()
+);
+CREATE INDEX IF NOT EXISTS domain_event_outbox_next_attempt_idx
+    ON domain_event_outbox (next_attempt_at, id);
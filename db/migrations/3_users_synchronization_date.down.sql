@@ -0,0 +1,4 @@
+DROP TRIGGER IF EXISTS users_synchronization_date_trigger ON users;
+DROP FUNCTION IF EXISTS users_set_synchronization_date();
+DROP FUNCTION IF EXISTS users_synchronization_date(JSONB);
+ALTER TABLE users DROP COLUMN IF EXISTS synchronization_date;
@@ -0,0 +1,32 @@
+-- Synchronization date of users replicated from directories, paged by UserSynchronizationJob.
+-- A plain nullable column maintained by a trigger: adding it does not rewrite the table, existing
+-- rows are filled in batches by the next migration. Dates that are not integers count as never
+-- synchronized instead of failing the write.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS synchronization_date BIGINT;
+
+CREATE OR REPLACE FUNCTION users_synchronization_date(metadata JSONB) RETURNS BIGINT
+    LANGUAGE sql
+    IMMUTABLE AS
+$$
+SELECT CASE
+           WHEN metadata #>> '{metadata,synchronizationDate}' ~ '^-?[0-9]{1,18}$'
+               THEN (metadata #>> '{metadata,synchronizationDate}')::BIGINT
+           ELSE 0
+           END
+$$;
+
+CREATE OR REPLACE FUNCTION users_set_synchronization_date() RETURNS TRIGGER
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    NEW.synchronization_date := users_synchronization_date(NEW.metadata);
+    RETURN NEW;
+END;
+$$;
+
+DROP TRIGGER IF EXISTS users_synchronization_date_trigger ON users;
+CREATE TRIGGER users_synchronization_date_trigger
+    BEFORE INSERT OR UPDATE OF metadata
+    ON users
+    FOR EACH ROW
+EXECUTE FUNCTION users_set_synchronization_date();
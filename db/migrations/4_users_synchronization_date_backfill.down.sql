@@ -0,0 +1 @@
+UPDATE users SET synchronization_date = NULL WHERE synchronization_date IS NOT NULL;
@@ -0,0 +1,23 @@
+-- Fills the synchronization date of existing users, committing every batch of ids so that rows are
+-- locked only briefly. Rows written meanwhile are kept up to date by the trigger. The block must be
+-- the only statement of the script, COMMIT is not allowed inside a multi-statement transaction.
+DO
+$$
+    DECLARE
+        batch_size  CONSTANT BIGINT := 10000;
+        batch_start BIGINT := 0;
+        last_id     BIGINT;
+    BEGIN
+        SELECT COALESCE(MAX(id), 0) INTO last_id FROM users;
+        WHILE batch_start < last_id
+            LOOP
+                UPDATE users
+                SET synchronization_date = users_synchronization_date(metadata)
+                WHERE id > batch_start
+                  AND id <= batch_start + batch_size
+                  AND synchronization_date IS NULL;
+                COMMIT;
+                batch_start := batch_start + batch_size;
+            END LOOP;
+    END
+$$;
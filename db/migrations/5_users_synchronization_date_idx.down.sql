@@ -0,0 +1 @@
+DROP INDEX CONCURRENTLY IF EXISTS users_type_synchronization_date_idx;
@@ -0,0 +1,2 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_type_synchronization_date_idx
+    ON users (type, synchronization_date, id);
@@ -0,0 +1 @@
+DROP INDEX CONCURRENTLY IF EXISTS project_name_pattern_idx;
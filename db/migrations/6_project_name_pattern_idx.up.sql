@@ -0,0 +1,2 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS project_name_pattern_idx
+    ON project (name text_pattern_ops);
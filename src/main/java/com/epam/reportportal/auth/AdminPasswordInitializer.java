@@ -62,9 +62,9 @@ public class AdminPasswordInitializer implements CommandLineRunner {
         .orElseGet(() -> Optional.of(INITIAL_LAST_LOGIN));
     checkPasswordEnvVariable(lastLogin);
 
-    boolean isMatches = passwordEncoder().matches(adminPassword, user.getPassword());
-    if (!isMatches && lastLogin.equals(INITIAL_LAST_LOGIN) && StringUtils.isNotEmpty(
-        adminPassword)) {
+    // BCrypt check is the expensive part, so it runs only while the default admin is not used yet
+    if (lastLogin.equals(INITIAL_LAST_LOGIN) && StringUtils.isNotEmpty(adminPassword)
+        && !passwordEncoder().matches(adminPassword, user.getPassword())) {
       updatePasswordForDefaultAdmin(user);
     }
   }
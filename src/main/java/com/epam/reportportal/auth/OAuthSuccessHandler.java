@@ -29,6 +29,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 
@@ -55,6 +56,7 @@ public class OAuthSuccessHandler extends AuthSuccessHandler {
     RPOAuth2User principal = (RPOAuth2User) oAuth2Authentication.getPrincipal();
     return tokenServicesFacade.get().createToken(
         ReportPortalClient.ui,
+        AuthorizationGrantType.AUTHORIZATION_CODE,
         normalizeId(principal.getName()),
         authentication,
         principal.getAccessToken() != null ? Collections.singletonMap("upstream_token",
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+import org.springframework.security.oauth2.server.authorization.settings.TokenSettings;
+
+/**
+ * Resolves lifetime of issued access tokens from the {@link TokenSettings} of the registered
+ * client. A client may override the default access token lifetime per grant type with the
+ * {@link #accessTokenTimeToLive(AuthorizationGrantType)} setting.
+ */
+public class TokenLifetimeResolver {
+
+  /**
+   * Grant type used for tokens issued after successful SAML authentication.
+   */
+  public static final AuthorizationGrantType SAML2_BEARER = new AuthorizationGrantType(
+      "urn:ietf:params:oauth:grant-type:saml2-bearer");
+
+  private static final String ACCESS_TOKEN_TTL_SETTING = "settings.token.rp.access-token-time-to-live.";
+
+  private final RegisteredClientRepository registeredClientRepository;
+
+  public TokenLifetimeResolver(RegisteredClientRepository registeredClientRepository) {
+    this.registeredClientRepository = registeredClientRepository;
+  }
+
+  /**
+   * Name of the {@link TokenSettings} entry that holds access token lifetime for the grant type.
+   *
+   * @param grantType Grant type
+   * @return Setting name
+   */
+  public static String accessTokenTimeToLive(AuthorizationGrantType grantType) {
+    return ACCESS_TOKEN_TTL_SETTING + grantType.getValue();
+  }
+
+  /**
+   * Resolves access token lifetime for the client and grant type. Falls back to the client's
+   * access token lifetime if there is no grant specific one.
+   *
+   * @param clientId  Registered client ID
+   * @param grantType Grant type the token is issued for
+   * @return Access token lifetime
+   */
+  public Duration resolveAccessTokenTimeToLive(String clientId, AuthorizationGrantType grantType) {
+    TokenSettings tokenSettings = Optional.ofNullable(
+            registeredClientRepository.findByClientId(clientId))
+        .map(RegisteredClient::getTokenSettings)
+        .orElseThrow(() -> new IllegalArgumentException("Unknown client: " + clientId));
+
+    Object grantTimeToLive = grantType == null ? null
+        : tokenSettings.getSetting(accessTokenTimeToLive(grantType));
+    return grantTimeToLive instanceof Duration duration ? duration
+        : tokenSettings.getAccessTokenTimeToLive();
+  }
+}
@@ -15,9 +15,11 @@
  */
 package com.epam.reportportal.auth;
 
+import com.epam.reportportal.auth.config.jwt.JwtKeyManager;
+import com.epam.reportportal.auth.util.FlowMetrics;
+import io.micrometer.core.instrument.Tags;
 import java.io.Serializable;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -26,8 +28,8 @@ import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
 import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
-import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.JwsHeader;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
@@ -41,79 +43,73 @@ import org.springframework.stereotype.Component;
 @Component
 public class TokenServicesFacade {
 
+  private static final String UNKNOWN_GRANT_TYPE = "unknown";
+
   private final JwtEncoder jwtEncoder;
   private final String issuer;
+  private final TokenLifetimeResolver tokenLifetimeResolver;
+  private final JwtKeyManager jwtKeyManager;
+  private final FlowMetrics flowMetrics;
 
-  public TokenServicesFacade(JwtEncoder jwtEncoder, @Value("${rp.jwt.issuer}") String issuer) {
+  public TokenServicesFacade(JwtEncoder jwtEncoder, @Value("${rp.jwt.issuer}") String issuer,
+      TokenLifetimeResolver tokenLifetimeResolver, JwtKeyManager jwtKeyManager,
+      FlowMetrics flowMetrics) {
     this.jwtEncoder = jwtEncoder;
     this.issuer = issuer;
+    this.tokenLifetimeResolver = tokenLifetimeResolver;
+    this.jwtKeyManager = jwtKeyManager;
+    this.flowMetrics = flowMetrics;
   }
 
   public Jwt createToken(
       ReportPortalClient client,
+      AuthorizationGrantType grantType,
       String username,
       Authentication userAuthentication,
       Map<String, Serializable> extensionParams
   ) {
-    return createNonApiToken(client, username, userAuthentication, extensionParams);
+    return createNonApiToken(client, grantType, username, userAuthentication, extensionParams);
   }
 
   public Jwt createNonApiToken(
       ReportPortalClient client,
+      AuthorizationGrantType grantType,
       String username,
       Authentication userAuthentication,
       Map<String, Serializable> extensionParams
   ) {
-    return createToken(client.name(), username, userAuthentication, extensionParams);
+    return createToken(client.name(), grantType, username, userAuthentication.getAuthorities(),
+        extensionParams);
   }
 
-  private Jwt createToken(
+  public Jwt createToken(
       String clientId,
+      AuthorizationGrantType grantType,
       String username,
-      Authentication authentication,
+      Collection<? extends GrantedAuthority> authorities,
       Map<String, Serializable> extensionParams
   ) {
-    Instant now = Instant.now();
-
-    Instant expiry = now.plus(1, ChronoUnit.DAYS);
-
-    JwtClaimsSet.Builder claimsBuilder = JwtClaimsSet.builder()
-        .id(UUID.randomUUID().toString())
-        .subject(username)
-        .audience(List.of("reportportal"))
-        .claim("user_name", username)
-        .claim("authorities", authentication.getAuthorities().stream()
-            .map(GrantedAuthority::getAuthority)
-            .collect(Collectors.toList()))
-        .issuedAt(now)
-        .notBefore(now)
-        .expiresAt(expiry)
-        .issuer(issuer)
-        .claim(OAuth2ParameterNames.CLIENT_ID, clientId)
-        .claim("scopes", List.of("ui"))
-        .claim("token_type", "access_token");
-
-    if (extensionParams != null) {
-      extensionParams.forEach(claimsBuilder::claim);
-    }
-
-    JwtClaimsSet jwtClaims = claimsBuilder.build();
-
-    JwsHeader jwsHeader = JwsHeader.with(MacAlgorithm.HS256).type("JWT").build();
-
-    JwtEncoderParameters parameters = JwtEncoderParameters.from(jwsHeader, jwtClaims);
-    return jwtEncoder.encode(parameters);
+    return flowMetrics.record(FlowMetrics.TOKEN_ISSUE,
+        Tags.of("client", clientId, "grant_type",
+            grantType == null ? UNKNOWN_GRANT_TYPE : grantType.getValue()),
+        () -> encodeToken(clientId, grantType, username, authorities, extensionParams));
   }
 
-  public Jwt createToken(
+  /**
+   * Encodes a token without recording it in the token issue metrics. Used by the JIT warm-up so
+   * synthetic tokens don't count as issued ones.
+   */
+  Jwt encodeToken(
       String clientId,
+      AuthorizationGrantType grantType,
       String username,
       Collection<? extends GrantedAuthority> authorities,
       Map<String, Serializable> extensionParams
   ) {
     Instant now = Instant.now();
 
-    Instant expiry = now.plus(1, ChronoUnit.DAYS);
+    Instant expiry = now.plus(
+        tokenLifetimeResolver.resolveAccessTokenTimeToLive(clientId, grantType));
 
     JwtClaimsSet.Builder claimsBuilder = JwtClaimsSet.builder()
         .id(UUID.randomUUID().toString())
@@ -137,7 +133,7 @@ public class TokenServicesFacade {
 
     JwtClaimsSet jwtClaims = claimsBuilder.build();
 
-    JwsHeader jwsHeader = JwsHeader.with(MacAlgorithm.HS256).type("JWT").build();
+    JwsHeader jwsHeader = jwtKeyManager.createJwsHeader();
 
     JwtEncoderParameters parameters = JwtEncoderParameters.from(jwsHeader, jwtClaims);
     return jwtEncoder.encode(parameters);
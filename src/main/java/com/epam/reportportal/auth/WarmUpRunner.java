@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth;
+
+import com.epam.reportportal.auth.commons.ReportPortalUser;
+import com.epam.reportportal.auth.entity.Metadata;
+import com.epam.reportportal.auth.entity.user.User;
+import com.epam.reportportal.auth.entity.user.UserRole;
+import com.epam.reportportal.auth.entity.user.UserType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the hot paths of a login with synthetic data before the application reports readiness, so
+ * the first real logins of a new instance run JIT-compiled code. Nothing is stored, and tokens are
+ * encoded below the metrics wrapper, so warm-up doesn't show up as issued tokens.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rp.warmup.enabled", havingValue = "true")
+public class WarmUpRunner implements ApplicationRunner {
+
+  static final String WARMUP_TIMER = "rp.warmup.duration";
+
+  private static final String WARMUP_LOGIN = "warmup@reportportal.internal";
+  private static final String WARMUP_PASSWORD = "warmup";
+
+  private final TokenServicesFacade tokenServicesFacade;
+  private final JwtDecoder jwtDecoder;
+  private final PasswordEncoder passwordEncoder;
+  private final MeterRegistry meterRegistry;
+  private final int iterations;
+  private final int passwordIterations;
+
+  public WarmUpRunner(TokenServicesFacade tokenServicesFacade, JwtDecoder jwtDecoder,
+      PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+      @Value("${rp.warmup.iterations}") int iterations,
+      @Value("${rp.warmup.password-iterations}") int passwordIterations) {
+    this.tokenServicesFacade = tokenServicesFacade;
+    this.jwtDecoder = jwtDecoder;
+    this.passwordEncoder = passwordEncoder;
+    this.meterRegistry = meterRegistry;
+    this.iterations = iterations;
+    this.passwordIterations = passwordIterations;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    long start = System.nanoTime();
+    try {
+      warmUp();
+    } catch (Exception e) {
+      // warm-up is an optimization only, it must not prevent the instance from serving
+      log.warn("JIT warm-up has been interrupted", e);
+    } finally {
+      long duration = System.nanoTime() - start;
+      Timer.builder(WARMUP_TIMER)
+          .description("Duration of the JIT warm-up before readiness")
+          .register(meterRegistry)
+          .record(duration, TimeUnit.NANOSECONDS);
+      log.info("JIT warm-up finished in {} ms", TimeUnit.NANOSECONDS.toMillis(duration));
+    }
+  }
+
+  private void warmUp() throws JsonProcessingException {
+    String hash = passwordEncoder.encode(WARMUP_PASSWORD);
+    for (int i = 0; i < passwordIterations; i++) {
+      passwordEncoder.matches(WARMUP_PASSWORD, hash);
+    }
+
+    User user = syntheticUser();
+    Metadata metadata = user.getMetadata();
+    for (int i = 0; i < iterations; i++) {
+      ReportPortalUser principal = ReportPortalUser.userBuilder().fromUser(user);
+      Jwt token = tokenServicesFacade.encodeToken(ReportPortalClient.ui.name(),
+          AuthorizationGrantType.PASSWORD, principal.getUsername(), principal.getAuthorities(),
+          null);
+      jwtDecoder.decode(token.getTokenValue());
+      metadata.deepCopy(metadata.fromJson(metadata.toJson(metadata)));
+    }
+  }
+
+  private static User syntheticUser() {
+    User user = new User();
+    user.setId(0L);
+    user.setLogin(WARMUP_LOGIN);
+    user.setEmail(WARMUP_LOGIN);
+    user.setUuid(UUID.randomUUID());
+    user.setFullName(WARMUP_LOGIN);
+    user.setPassword(WARMUP_PASSWORD);
+    user.setActive(Boolean.TRUE);
+    user.setExpired(false);
+    user.setRole(UserRole.USER);
+    user.setUserType(UserType.INTERNAL);
+    Map<String, Object> metadata = new HashMap<>();
+    metadata.put("last_login", System.currentTimeMillis());
+    user.setMetadata(new Metadata(metadata));
+    return user;
+  }
+}
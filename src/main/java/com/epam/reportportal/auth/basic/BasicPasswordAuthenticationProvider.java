@@ -23,6 +23,7 @@ import com.epam.reportportal.auth.event.UiAuthenticationFailureEventHandler;
 import com.epam.reportportal.auth.event.UiUserSignedInEvent;
 import com.epam.reportportal.auth.rules.exception.ErrorType;
 import com.epam.reportportal.auth.rules.exception.ReportPortalException;
+import com.epam.reportportal.auth.util.FlowMetrics;
 import jakarta.inject.Provider;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,6 +41,8 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
  */
 public class BasicPasswordAuthenticationProvider extends DaoAuthenticationProvider {
 
+  private static final String PROVIDER_NAME = "password";
+
   @Autowired
   private ApplicationEventPublisher eventPublisher;
 
@@ -52,8 +55,16 @@ public class BasicPasswordAuthenticationProvider extends DaoAuthenticationProvid
   @Autowired
   private TokenServicesFacade tokenService;
 
+  @Autowired
+  private FlowMetrics flowMetrics;
+
   @Override
   public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+    return flowMetrics.record(FlowMetrics.LOGIN, PROVIDER_NAME,
+        () -> authenticateClient(authentication));
+  }
+
+  private Authentication authenticateClient(Authentication authentication) {
     boolean accountNonLocked = !failureEventHandler.isBlocked(request.get());
     if (!accountNonLocked) {
       throw new ReportPortalException(ErrorType.ADDRESS_LOCKED);
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.basic;
+
+import static com.epam.reportportal.auth.commons.EntityUtils.normalizeId;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Memoizes users loaded by the delegate within the current HTTP request, so the principal is built
+ * at most once per request no matter how many security filters and handlers resolve it. Outside of
+ * a request every call goes to the delegate.
+ */
+public class RequestScopedUserDetailsService implements UserDetailsService {
+
+  private static final String USERS_ATTRIBUTE =
+      RequestScopedUserDetailsService.class.getName() + ".USERS";
+  private static final String LOOKUPS_ATTRIBUTE =
+      RequestScopedUserDetailsService.class.getName() + ".LOOKUPS";
+
+  private final UserDetailsService delegate;
+
+  public RequestScopedUserDetailsService(UserDetailsService delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * @param requestAttributes Attributes of the request
+   * @return Number of users loaded by the delegate within the request
+   */
+  public static int getLookupCount(RequestAttributes requestAttributes) {
+    Object lookups = requestAttributes.getAttribute(LOOKUPS_ATTRIBUTE,
+        RequestAttributes.SCOPE_REQUEST);
+    return lookups instanceof AtomicInteger counter ? counter.get() : 0;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (requestAttributes == null) {
+      return delegate.loadUserByUsername(username);
+    }
+    Map<String, UserDetails> users = (Map<String, UserDetails>) requestAttributes.getAttribute(
+        USERS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    if (users == null) {
+      users = new HashMap<>();
+      requestAttributes.setAttribute(USERS_ATTRIBUTE, users, RequestAttributes.SCOPE_REQUEST);
+      requestAttributes.setAttribute(LOOKUPS_ATTRIBUTE, new AtomicInteger(),
+          RequestAttributes.SCOPE_REQUEST);
+    }
+    AtomicInteger lookups = (AtomicInteger) requestAttributes.getAttribute(LOOKUPS_ATTRIBUTE,
+        RequestAttributes.SCOPE_REQUEST);
+    return users.computeIfAbsent(normalizeId(username), login -> {
+      lookups.incrementAndGet();
+      return delegate.loadUserByUsername(username);
+    });
+  }
+}
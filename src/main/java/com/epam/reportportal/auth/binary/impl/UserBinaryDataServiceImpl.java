@@ -31,6 +31,8 @@ import com.epam.reportportal.auth.entity.enums.FeatureFlag;
 import com.epam.reportportal.auth.entity.user.User;
 import com.epam.reportportal.auth.util.FeatureFlagHandler;
 import com.google.common.collect.Maps;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -51,17 +53,21 @@ public class UserBinaryDataServiceImpl implements UserBinaryDataService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(UserBinaryDataServiceImpl.class);
   private static final String DEFAULT_USER_PHOTO = "image/defaultAvatar.png";
+  private static final String SAVE_PHOTO_OBSERVATION = "rp.user.photo.save";
 
   private final DataStoreService dataStoreService;
 
   private final FeatureFlagHandler featureFlagHandler;
 
+  private final ObservationRegistry observationRegistry;
+
   @Autowired
   public UserBinaryDataServiceImpl(
       @Qualifier("userDataStoreService") DataStoreService dataStoreService,
-      FeatureFlagHandler featureFlagHandler) {
+      FeatureFlagHandler featureFlagHandler, ObservationRegistry observationRegistry) {
     this.dataStoreService = dataStoreService;
     this.featureFlagHandler = featureFlagHandler;
+    this.observationRegistry = observationRegistry;
   }
 
 
@@ -72,6 +78,12 @@ public class UserBinaryDataServiceImpl implements UserBinaryDataService {
 
   @Override
   public void saveUserPhoto(User user, InputStream inputStream, String contentType) {
+    Observation.createNotStarted(SAVE_PHOTO_OBSERVATION, observationRegistry)
+        .contextualName("save user photo")
+        .observe(() -> storeUserPhoto(user, inputStream, contentType));
+  }
+
+  private void storeUserPhoto(User user, InputStream inputStream, String contentType) {
     try {
       byte[] data = StreamUtils.copyToByteArray(inputStream);
       try (InputStream userPhotoCopy = new ByteArrayInputStream(data);
@@ -18,6 +18,7 @@ package com.epam.reportportal.auth.commons;
 
 import com.epam.reportportal.auth.rules.exception.ReportPortalException;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -56,6 +57,28 @@ public abstract class JsonbUserType<T> implements UserType<T> {
     return Types.JAVA_OBJECT;
   }
 
+  /**
+   * Serializes value to the JSON stored in the column.
+   *
+   * @param value Value
+   * @return JSON representation
+   * @throws JsonProcessingException if the value cannot be serialized
+   */
+  public String toJson(Object value) throws JsonProcessingException {
+    return mapper.writeValueAsString(value);
+  }
+
+  /**
+   * Deserializes value from the JSON stored in the column.
+   *
+   * @param json JSON representation
+   * @return Value
+   * @throws JsonProcessingException if the JSON cannot be deserialized
+   */
+  public T fromJson(String json) throws JsonProcessingException {
+    return mapper.readValue(json, this.returnedClass());
+  }
+
   @Override
   public T nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session,
       Object owner) throws SQLException {
@@ -64,7 +87,7 @@ public abstract class JsonbUserType<T> implements UserType<T> {
     }
     PGobject pgObject = (PGobject) rs.getObject(position);
     try {
-      return mapper.readValue(pgObject.getValue(), this.returnedClass());
+      return fromJson(pgObject.getValue());
     } catch (Exception e) {
       throw new ReportPortalException(
           String.format("Failed to convert String to '%s' ", this.returnedClass().getName()), e);
@@ -82,7 +105,7 @@ public abstract class JsonbUserType<T> implements UserType<T> {
     try {
       PGobject pGobject = new PGobject();
       pGobject.setType("jsonb");
-      pGobject.setValue(mapper.writeValueAsString(value));
+      pGobject.setValue(toJson(value));
       st.setObject(index, pGobject);
     } catch (final Exception ex) {
       throw new ReportPortalException("Failed to convert Invoice to String: " + ex.getMessage(),
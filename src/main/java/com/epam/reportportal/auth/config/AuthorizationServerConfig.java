@@ -18,64 +18,70 @@ package com.epam.reportportal.auth.config;
 
 import com.epam.reportportal.auth.OAuthSuccessHandler;
 import com.epam.reportportal.auth.ReportPortalClient;
+import com.epam.reportportal.auth.TokenLifetimeResolver;
 import com.epam.reportportal.auth.TokenServicesFacade;
 import com.epam.reportportal.auth.basic.BasicPasswordAuthenticationProvider;
 import com.epam.reportportal.auth.basic.DatabaseUserDetailsService;
+import com.epam.reportportal.auth.basic.RequestScopedUserDetailsService;
 import com.epam.reportportal.auth.config.password.CustomCodeGrantAuthenticationConverter;
+import com.epam.reportportal.auth.config.jwt.JwtKeyManager;
+import com.epam.reportportal.auth.config.jwt.TokenIntrospector;
+import com.epam.reportportal.auth.config.jwt.TokenRevocationRegistry;
 import com.epam.reportportal.auth.config.password.OAuth2ErrorResponseHandler;
 import com.epam.reportportal.auth.config.utils.JwtReportPortalUserConverter;
 import com.epam.reportportal.auth.dao.IntegrationRepository;
 import com.epam.reportportal.auth.dao.ServerSettingsRepository;
-import com.epam.reportportal.auth.entity.ServerSettings;
 import com.epam.reportportal.auth.integration.AuthIntegrationType;
-import com.epam.reportportal.auth.integration.converter.OAuthRegistrationConverters;
 import com.epam.reportportal.auth.integration.ldap.DetailsContextMapper;
 import com.epam.reportportal.auth.integration.ldap.LdapAuthProvider;
 import com.epam.reportportal.auth.integration.ldap.LdapUserReplicator;
 import com.epam.reportportal.auth.integration.parameter.ParameterUtils;
-import com.epam.reportportal.auth.model.settings.OAuthRegistrationResource;
-import com.epam.reportportal.auth.oauth.OAuthProvider;
+import com.epam.reportportal.auth.oauth.OAuthUserServiceRegistry;
 import com.epam.reportportal.auth.rules.exception.ErrorType;
 import com.epam.reportportal.auth.rules.exception.ReportPortalException;
 import com.epam.reportportal.auth.store.MutableClientRegistrationRepository;
-import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import com.epam.reportportal.auth.util.FlowMetrics;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import java.time.Duration;
-import java.util.List;
-import java.util.stream.Collectors;
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.jasypt.util.text.BasicTextEncryptor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Bean.Bootstrap;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
-import org.springframework.context.annotation.Profile;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.oauth2.server.resource.OAuth2ResourceServerConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
-import org.springframework.security.oauth2.client.userinfo.DelegatingOAuth2UserService;
-import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
-import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.client.web.DefaultOAuth2AuthorizationRequestResolver;
 import org.springframework.security.oauth2.client.web.DefaultOAuth2AuthorizedClientManager;
 import org.springframework.security.oauth2.client.web.OAuth2AuthorizationRequestResolver;
 import org.springframework.security.oauth2.client.web.OAuth2AuthorizedClientRepository;
 import org.springframework.security.oauth2.core.AuthorizationGrantType;
 import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
-import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.oauth2.server.authorization.client.InMemoryRegisteredClientRepository;
@@ -87,7 +93,6 @@ import org.springframework.security.oauth2.server.authorization.settings.ClientS
 import org.springframework.security.oauth2.server.authorization.settings.TokenSettings;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
-import org.springframework.util.StringUtils;
 
 /**
  * @author <a href="mailto:andrei_piankouski@epam.com">Andrei Piankouski</a>
@@ -97,17 +102,39 @@ import org.springframework.util.StringUtils;
 @RequiredArgsConstructor
 public class AuthorizationServerConfig {
 
-  private static final String SECRET_KEY = "secret.key";
-
   @Value("${rp.jwt.signing-key}")
   private String signingKey;
 
+  @Value("${rp.jwt.signing-algorithm}")
+  private String signingAlgorithm;
+
+  @Value("${rp.jwt.keys.rotation-interval}")
+  private Integer keyRotationInterval;
+
+  @Value("${rp.jwt.keys.activation-delay}")
+  private Integer keyActivationDelay;
+
   @Value("${rp.jwt.token.validity-period}")
   private Integer tokenValidity;
 
+  @Value("${rp.jwt.token.sso-validity-period}")
+  private Integer ssoTokenValidity;
+
+  @Value("${rp.jwt.token.refresh-validity-period}")
+  private Integer refreshTokenValidity;
+
+  @Value("${rp.jwt.token.api-validity-period}")
+  private Integer apiTokenValidity;
+
   @Value("${rp.jwt.issuer}")
   private String jwtIssuer;
 
+  @Value("${rp.management.username}")
+  private String managementUsername;
+
+  @Value("${rp.management.password}")
+  private String managementPassword;
+
   private final ServerSettingsRepository serverSettingsRepository;
 
   private final IntegrationRepository authConfigRepository;
@@ -120,7 +147,13 @@ public class AuthorizationServerConfig {
 
   private final AuthenticationFailureHandler authenticationFailureHandler;
 
-  private final List<OAuthProvider> authProviders;
+  private final OAuthUserServiceRegistry oAuthUserServiceRegistry;
+
+  private final TokenRevocationRegistry tokenRevocationRegistry;
+
+  private final FlowMetrics flowMetrics;
+
+  private final BasicTextEncryptor encryptor;
 
   @Bean
   public RegisteredClientRepository registeredClientRepository() {
@@ -141,7 +174,7 @@ public class AuthorizationServerConfig {
         .authorizationGrantType(AuthorizationGrantType.PASSWORD)
         .scope("api")
         .tokenSettings(TokenSettings.builder()
-            .accessTokenTimeToLive(Duration.ofDays(1))
+            .accessTokenTimeToLive(Duration.ofSeconds(apiTokenValidity))
             .build())
         .build();
 
@@ -162,30 +195,60 @@ public class AuthorizationServerConfig {
   private TokenSettings tokenSettings() {
     return TokenSettings.builder()
         .accessTokenTimeToLive(Duration.ofSeconds(tokenValidity))
+        .refreshTokenTimeToLive(Duration.ofSeconds(refreshTokenValidity))
+        .setting(TokenLifetimeResolver.accessTokenTimeToLive(AuthorizationGrantType.AUTHORIZATION_CODE),
+            Duration.ofSeconds(ssoTokenValidity))
+        .setting(TokenLifetimeResolver.accessTokenTimeToLive(TokenLifetimeResolver.SAML2_BEARER),
+            Duration.ofSeconds(ssoTokenValidity))
         .build();
   }
 
+  @Bean
+  public TokenLifetimeResolver tokenLifetimeResolver() {
+    return new TokenLifetimeResolver(registeredClientRepository());
+  }
+
   @Bean
   public AuthorizationServerSettings authorizationServerSettings() {
     return AuthorizationServerSettings.builder()
         .tokenEndpoint("/sso/oauth/token")
         .tokenIntrospectionEndpoint("/sso/oauth/check_token")
+        .jwkSetEndpoint("/sso/oauth/jwks")
         .authorizationEndpoint("/sso/oauth/authorize")
         .build();
   }
 
+  @Bean(bootstrap = Bootstrap.BACKGROUND)
+  public JwtKeyManager jwtKeyManager() {
+    int longestTokenValidity = Math.max(Math.max(tokenValidity, ssoTokenValidity),
+        apiTokenValidity);
+    return new JwtKeyManager(serverSettingsRepository, encryptor, signingAlgorithm, signingKey,
+        Duration.ofSeconds(keyRotationInterval), Duration.ofSeconds(keyActivationDelay),
+        Duration.ofSeconds(longestTokenValidity));
+  }
+
   @Bean
-  @Profile("!unittest")
   public JwtEncoder jwtEncoder() {
-    SecretKey key = new SecretKeySpec(getSecret().getBytes(),
-        "HmacSHA256");
-    return new NimbusJwtEncoder(new ImmutableSecret<>(key));
+    return new NimbusJwtEncoder(jwtKeyManager());
   }
 
   @Bean
-  @Profile("!unittest")
   public JwtDecoder jwtDecoder() {
-    return NimbusJwtDecoder.withSecretKey(new SecretKeySpec(getSecret().getBytes(), "HmacSHA256")).build();
+    DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+    jwtProcessor.setJWSKeySelector(
+        new JWSVerificationKeySelector<>(JwtKeyManager.SUPPORTED_ALGORITHMS, jwtKeyManager()));
+    // claims are validated by NimbusJwtDecoder
+    jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+    });
+    NimbusJwtDecoder jwtDecoder = new NimbusJwtDecoder(jwtProcessor);
+    jwtDecoder.setJwtValidator(
+        new DelegatingOAuth2TokenValidator<>(JwtValidators.createDefault(), tokenRevocationRegistry));
+    return jwtDecoder;
+  }
+
+  @Bean
+  public TokenIntrospector tokenIntrospector() {
+    return new TokenIntrospector(jwtDecoder());
   }
 
   @Bean
@@ -213,6 +276,77 @@ public class AuthorizationServerConfig {
     return http.build();
   }
 
+  /**
+   * Token introspection callers authenticate as registered clients with HTTP Basic, as required by
+   * RFC 7662, so the token state and claims are never disclosed to anonymous callers.
+   */
+  @Bean
+  @Order(2)
+  SecurityFilterChain tokenIntrospectionSecurityFilterChain(HttpSecurity http) throws Exception {
+    http
+        .securityMatcher("/sso/oauth/check_token")
+        .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
+        .authenticationManager(new ProviderManager(clientAuthProvider()))
+        .httpBasic(Customizer.withDefaults())
+        .csrf(AbstractHttpConfigurer::disable)
+        .sessionManagement(session -> session
+            .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+        );
+
+    return http.build();
+  }
+
+  /**
+   * Health components and Prometheus scrapes carry per-client and per-integration details, so they
+   * are available to the metrics scraper only, which authenticates with HTTP Basic and its own
+   * credentials. User tokens are not accepted here. The probes stay anonymous and report the
+   * status only.
+   */
+  @Bean
+  @Order(3)
+  SecurityFilterChain managementSecurityFilterChain(HttpSecurity http) throws Exception {
+    http
+        .securityMatcher("/health/**", "/prometheus")
+        .authorizeHttpRequests(auth -> auth
+            .requestMatchers("/health", "/health/liveness", "/health/readiness").permitAll()
+            .anyRequest().hasRole("METRICS")
+        )
+        .authenticationManager(new ProviderManager(managementAuthProvider()))
+        .httpBasic(Customizer.withDefaults())
+        .csrf(AbstractHttpConfigurer::disable)
+        .sessionManagement(session -> session
+            .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+        );
+
+    return http.build();
+  }
+
+  private AuthenticationProvider managementAuthProvider() {
+    DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+    provider.setUserDetailsService(username -> Optional.of(username)
+        .filter(it -> StringUtils.isNotEmpty(managementPassword))
+        .filter(managementUsername::equals)
+        .map(it -> User.withUsername(it)
+            .password("{noop}" + managementPassword)
+            .roles("METRICS")
+            .build())
+        .orElseThrow(() -> new UsernameNotFoundException("Unknown scraper: " + username)));
+    return provider;
+  }
+
+  private AuthenticationProvider clientAuthProvider() {
+    RegisteredClientRepository clients = registeredClientRepository();
+    DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+    provider.setUserDetailsService(clientId -> Optional.ofNullable(clients.findByClientId(clientId))
+        .map(client -> User.withUsername(client.getClientId())
+            .password(client.getClientSecret())
+            .authorities("ROLE_CLIENT")
+            .build())
+        .orElseThrow(() -> new UsernameNotFoundException("Client not found: " + clientId)));
+    provider.setPasswordEncoder(passwordEncoder());
+    return provider;
+  }
+
   @Bean
   public AuthenticationProvider basicPasswordAuthProvider() {
     BasicPasswordAuthenticationProvider provider = new BasicPasswordAuthenticationProvider();
@@ -224,7 +358,8 @@ public class AuthorizationServerConfig {
   @Bean
   public AuthenticationProvider ldapAuthProvider() {
     return new LdapAuthProvider(authConfigRepository, eventPublisher, ldapDetailsContextMapper(),
-        new TokenServicesFacade(jwtEncoder(), jwtIssuer));
+        new TokenServicesFacade(jwtEncoder(), jwtIssuer, tokenLifetimeResolver(),
+            jwtKeyManager(), flowMetrics));
   }
 
   @Bean("ldapDetailsContextMapper")
@@ -240,16 +375,6 @@ public class AuthorizationServerConfig {
     );
   }
 
-  private String getSecret() {
-    if (StringUtils.hasText(signingKey)) {
-      return signingKey;
-    }
-
-    return serverSettingsRepository.findByKey(SECRET_KEY)
-        .map(ServerSettings::getValue)
-        .orElseGet(serverSettingsRepository::generateSecret);
-  }
-
   @Bean
   public PasswordEncoder passwordEncoder() {
     return new BCryptPasswordEncoder();
@@ -266,9 +391,9 @@ public class AuthorizationServerConfig {
         .authorizeHttpRequests(auth -> auth
             .requestMatchers(
                 "/oauth/login/**",
+                "/sso/oauth/jwks",
                 "/epam/**",
                 "/info",
-                "/health",
                 "/api-docs",
                 "/saml2/**",
                 "/templates/**",
@@ -284,7 +409,7 @@ public class AuthorizationServerConfig {
         )
         .oauth2Login(oauth2 -> oauth2
             .userInfoEndpoint(
-                userInfo -> userInfo.userService(new DelegatingOAuth2UserService<>(getUserServices(authProviders))))
+                userInfo -> userInfo.userService(oAuthUserServiceRegistry))
             .clientRegistrationRepository(clientRegistrationRepository)
             .authorizationEndpoint(authorization -> authorization
                 .baseUri("/oauth/login")
@@ -343,20 +468,17 @@ public class AuthorizationServerConfig {
     return new DatabaseUserDetailsService();
   }
 
+  @Bean
+  public RequestScopedUserDetailsService requestScopedUserDetailsService() {
+    return new RequestScopedUserDetailsService(userDetailsService());
+  }
+
   private Customizer<OAuth2ResourceServerConfigurer<HttpSecurity>> oauth2ResourceServerCustomizer() {
     return oauth2 -> oauth2
         .jwt(jwt -> jwt
             .decoder(jwtDecoder())
-            .jwtAuthenticationConverter(new JwtReportPortalUserConverter(userDetailsService()))
+            .jwtAuthenticationConverter(new JwtReportPortalUserConverter(
+                requestScopedUserDetailsService(), flowMetrics))
         );
   }
-
-  public List<OAuth2UserService<OAuth2UserRequest, OAuth2User>> getUserServices(List<OAuthProvider> providers) {
-    return providers.stream()
-        .map(provider ->
-            provider.getUserService(clientRegistrationRepository.findOAuthRegistrationById(provider.getName())
-                .map(OAuthRegistrationConverters.TO_RESOURCE)
-                .orElse(new OAuthRegistrationResource())))
-        .collect(Collectors.toList());
-  }
 }
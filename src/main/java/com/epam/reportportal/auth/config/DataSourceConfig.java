@@ -19,22 +19,68 @@ package com.epam.reportportal.auth.config;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.HikariCheckpointRestoreLifecycle;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /**
+ * Database connection pools. Everything, read-only transactions included, goes to the primary pool
+ * configured by {@code rp.datasource}, so authentication and principal lookups never see replica
+ * lag. Reads that tolerate lag, such as audit exports, opt in to the pool configured by
+ * {@code rp.datasource.read}, which may point to a replica, by using {@code readDataSource} with
+ * {@code replicaTransactionManager}.
+ *
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
  */
 @Configuration
 @ConfigurationProperties(prefix = "rp.datasource")
 public class DataSourceConfig extends HikariConfig {
 
+  private final HikariConfig read = new HikariConfig();
+
+  public HikariConfig getRead() {
+    return read;
+  }
+
   @Primary
   @Bean
-  public DataSource dataSource() {
+  public HikariDataSource writeDataSource() {
     return new HikariDataSource(this);
   }
 
+  @Bean
+  public HikariDataSource readDataSource() {
+    return new HikariDataSource(read);
+  }
+
+  @Bean
+  public PlatformTransactionManager replicaTransactionManager(
+      @Qualifier("readDataSource") DataSource readDataSource) {
+    return new DataSourceTransactionManager(readDataSource);
+  }
+
+  /**
+   * Suspends the pools and closes their connections before a CRaC checkpoint, resumes them after
+   * restore.
+   */
+  @Bean
+  public HikariCheckpointRestoreLifecycle writeCheckpointRestoreLifecycle(
+      @Qualifier("writeDataSource") DataSource writeDataSource,
+      ConfigurableApplicationContext applicationContext) {
+    return new HikariCheckpointRestoreLifecycle(writeDataSource, applicationContext);
+  }
+
+  @Bean
+  public HikariCheckpointRestoreLifecycle readCheckpointRestoreLifecycle(
+      @Qualifier("readDataSource") DataSource readDataSource,
+      ConfigurableApplicationContext applicationContext) {
+    return new HikariCheckpointRestoreLifecycle(readDataSource, applicationContext);
+  }
+
 }
@@ -20,8 +20,11 @@ import com.epam.reportportal.auth.commons.Thumbnailator;
 import com.epam.reportportal.auth.commons.ThumbnailatorImpl;
 import com.epam.reportportal.auth.filesystem.DataStore;
 import com.epam.reportportal.auth.filesystem.LocalDataStore;
+import com.epam.reportportal.auth.filesystem.MeteredDataStore;
+import com.epam.reportportal.auth.filesystem.ReopenableBlobStoreContext;
 import com.epam.reportportal.auth.filesystem.distributed.s3.S3DataStore;
 import com.epam.reportportal.auth.util.FeatureFlagHandler;
+import com.epam.reportportal.auth.util.FlowMetrics;
 import com.google.common.base.Optional;
 import com.google.common.base.Supplier;
 import com.google.common.cache.CacheLoader;
@@ -33,7 +36,6 @@ import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.jclouds.ContextBuilder;
 import org.jclouds.aws.s3.config.AWSS3HttpApiModule;
-import org.jclouds.blobstore.BlobStore;
 import org.jclouds.blobstore.BlobStoreContext;
 import org.jclouds.blobstore.ContainerNotFoundException;
 import org.jclouds.filesystem.reference.FilesystemConstants;
@@ -43,6 +45,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Bean.Bootstrap;
 import org.springframework.context.annotation.Configuration;
 
 /**
@@ -134,58 +137,57 @@ public class DataStoreConfiguration {
     }
   }
 
-  @Bean
+  @Bean(bootstrap = Bootstrap.BACKGROUND)
   @ConditionalOnProperty(name = "datastore.type", havingValue = "filesystem")
-  public BlobStore filesystemBlobStore(
+  public ReopenableBlobStoreContext filesystemBlobStoreContext(
       @Value("${datastore.path:/data/store}") String baseDirectory) {
 
     Properties properties = new Properties();
     properties.setProperty(FilesystemConstants.PROPERTY_BASEDIR, baseDirectory);
 
-    BlobStoreContext blobStoreContext =
-        ContextBuilder.newBuilder("filesystem").overrides(properties)
-            .buildView(BlobStoreContext.class);
-
-    return blobStoreContext.getBlobStore();
+    return new ReopenableBlobStoreContext(
+        () -> ContextBuilder.newBuilder("filesystem").overrides(properties)
+            .buildView(BlobStoreContext.class));
   }
 
   @Bean
   @ConditionalOnProperty(name = "datastore.type", havingValue = "filesystem")
-  public DataStore localDataStore(@Autowired BlobStore blobStore,
+  public DataStore localDataStore(@Autowired ReopenableBlobStoreContext blobStoreContext,
       FeatureFlagHandler featureFlagHandler,
       @Value("${datastore.bucketPrefix}") String bucketPrefix,
       @Value("${datastore.bucketPostfix}") String bucketPostfix,
-      @Value("${datastore.defaultBucketName}") String defaultBucketName) {
-    return new LocalDataStore(
-        blobStore, featureFlagHandler, bucketPrefix, bucketPostfix, defaultBucketName);
+      @Value("${datastore.defaultBucketName}") String defaultBucketName,
+      FlowMetrics flowMetrics) {
+    return new MeteredDataStore(new LocalDataStore(blobStoreContext.getBlobStore(),
+        featureFlagHandler, bucketPrefix, bucketPostfix, defaultBucketName),
+        "filesystem", flowMetrics);
   }
 
   /**
-   * Creates BlobStore bean, that works with MinIO.
+   * Creates BlobStore context bean, that works with MinIO.
    *
    * @param accessKey accessKey to use
    * @param secretKey secretKey to use
    * @param endpoint  MinIO endpoint
-   * @return {@link BlobStore}
+   * @return {@link ReopenableBlobStoreContext}
    */
-  @Bean
+  @Bean(bootstrap = Bootstrap.BACKGROUND)
   @ConditionalOnProperty(name = "datastore.type", havingValue = "s3-compatible")
-  public BlobStore minioBlobStore(@Value("${datastore.accessKey}") String accessKey,
+  public ReopenableBlobStoreContext minioBlobStoreContext(
+      @Value("${datastore.accessKey}") String accessKey,
       @Value("${datastore.secretKey}") String secretKey,
       @Value("${datastore.endpoint}") String endpoint) {
 
-    BlobStoreContext blobStoreContext = ContextBuilder.newBuilder("s3")
+    return new ReopenableBlobStoreContext(() -> ContextBuilder.newBuilder("s3")
         .endpoint(endpoint)
         .credentials(accessKey, secretKey)
-        .buildView(BlobStoreContext.class);
-
-    return blobStoreContext.getBlobStore();
+        .buildView(BlobStoreContext.class));
   }
 
   /**
    * Creates DataStore bean to work with MinIO.
    *
-   * @param blobStore          {@link BlobStore} object
+   * @param blobStoreContext   {@link ReopenableBlobStoreContext} object
    * @param bucketPrefix       Prefix for bucket name
    * @param defaultBucketName  Name of default bucket to use
    * @param region             Region to store
@@ -194,56 +196,57 @@ public class DataStoreConfiguration {
    */
   @Bean
   @ConditionalOnProperty(name = "datastore.type", havingValue = "s3-compatible")
-  public DataStore minioDataStore(@Autowired BlobStore blobStore,
+  public DataStore minioDataStore(@Autowired ReopenableBlobStoreContext blobStoreContext,
       @Value("${datastore.bucketPrefix}") String bucketPrefix,
       @Value("${datastore.bucketPostfix}") String bucketPostfix,
       @Value("${datastore.defaultBucketName}") String defaultBucketName,
-      @Value("${datastore.region}") String region, FeatureFlagHandler featureFlagHandler) {
-    return new S3DataStore(
-        blobStore, bucketPrefix, bucketPostfix, defaultBucketName, region, featureFlagHandler);
+      @Value("${datastore.region}") String region, FeatureFlagHandler featureFlagHandler,
+      FlowMetrics flowMetrics) {
+    return new MeteredDataStore(new S3DataStore(blobStoreContext.getBlobStore(), bucketPrefix,
+        bucketPostfix, defaultBucketName, region, featureFlagHandler),
+        "s3-compatible", flowMetrics);
   }
 
   /**
-   * Creates BlobStore bean, that works with AWS S3.
+   * Creates BlobStore context bean, that works with AWS S3.
    *
    * @param accessKey accessKey to use
    * @param secretKey secretKey to use
    * @param region    AWS S3 region to use.
-   * @return {@link BlobStore}
+   * @return {@link ReopenableBlobStoreContext}
    */
-  @Bean
+  @Bean(bootstrap = Bootstrap.BACKGROUND)
   @ConditionalOnProperty(name = "datastore.type", havingValue = "aws-s3")
-  public BlobStore s3BlobStore(@Value("${datastore.accessKey}") String accessKey,
+  public ReopenableBlobStoreContext s3BlobStoreContext(
+      @Value("${datastore.accessKey}") String accessKey,
       @Value("${datastore.secretKey}") String secretKey,
       @Value("${datastore.region}") String region) {
     Iterable<Module> modules = ImmutableSet.of(new CustomBucketToRegionModule(region));
 
-    BlobStoreContext blobStoreContext;
-    if (StringUtils.isNotEmpty(accessKey) && StringUtils.isNotEmpty(secretKey)) {
-      blobStoreContext = ContextBuilder.newBuilder("aws-s3")
-          .modules(modules)
-          .credentials(accessKey, secretKey)
-          .buildView(BlobStoreContext.class);
-    } else {
-      blobStoreContext = ContextBuilder.newBuilder("aws-s3")
+    return new ReopenableBlobStoreContext(() -> {
+      if (StringUtils.isNotEmpty(accessKey) && StringUtils.isNotEmpty(secretKey)) {
+        return ContextBuilder.newBuilder("aws-s3")
+            .modules(modules)
+            .credentials(accessKey, secretKey)
+            .buildView(BlobStoreContext.class);
+      }
+      return ContextBuilder.newBuilder("aws-s3")
           .credentialsSupplier(new IAMCredentialSupplier())
           .modules(modules)
           .buildView(BlobStoreContext.class);
-    }
-
-    return blobStoreContext.getBlobStore();
+    });
   }
 
   @Bean
   @ConditionalOnProperty(name = "datastore.type", havingValue = "aws-s3")
-  public DataStore s3DataStore(@Autowired BlobStore blobStore,
+  public DataStore s3DataStore(@Autowired ReopenableBlobStoreContext blobStoreContext,
       @Value("${datastore.bucketPrefix}") String bucketPrefix,
       @Value("${datastore.bucketPostfix}") String bucketPostfix,
       @Value("${datastore.defaultBucketName}") String defaultBucketName,
-      @Value("${datastore.region}") String region, FeatureFlagHandler featureFlagHandler) {
-    return new S3DataStore(blobStore, bucketPrefix, bucketPostfix, defaultBucketName, region,
-        featureFlagHandler
-    );
+      @Value("${datastore.region}") String region, FeatureFlagHandler featureFlagHandler,
+      FlowMetrics flowMetrics) {
+    return new MeteredDataStore(new S3DataStore(blobStoreContext.getBlobStore(), bucketPrefix,
+        bucketPostfix, defaultBucketName, region, featureFlagHandler), "aws-s3", flowMetrics);
   }
 
   @Bean("attachmentThumbnailator")
@@ -16,12 +16,19 @@
 
 package com.epam.reportportal.auth.config;
 
+import com.epam.reportportal.auth.config.cache.GuavaRegionFactory;
 import com.epam.reportportal.auth.dao.ReportPortalRepositoryImpl;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.Map;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.SharedCacheMode;
 import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -58,6 +65,15 @@ public class DatabaseConfiguration {
   @Autowired
   private DataSource dataSource;
 
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Value("${rp.cache.hibernate.ttl}")
+  private long cacheTtl;
+
+  @Value("${rp.cache.hibernate.max-size}")
+  private long cacheMaxSize;
+
   @Bean
   public EntityManagerFactory entityManagerFactory() {
 
@@ -69,6 +85,13 @@ public class DatabaseConfiguration {
     factory.setPackagesToScan("com.epam.reportportal.auth.commons",
         "com.epam.reportportal.auth.entity");
     factory.setDataSource(dataSource);
+    factory.setSharedCacheMode(SharedCacheMode.ENABLE_SELECTIVE);
+    factory.setJpaPropertyMap(Map.of(
+        AvailableSettings.USE_SECOND_LEVEL_CACHE, true,
+        AvailableSettings.USE_QUERY_CACHE, true,
+        AvailableSettings.CACHE_REGION_FACTORY,
+        new GuavaRegionFactory(Duration.ofSeconds(cacheTtl), cacheMaxSize, meterRegistry)
+    ));
 
     factory.afterPropertiesSet();
 
@@ -23,6 +23,8 @@ import com.epam.reportportal.auth.filesystem.DataStore;
 import com.epam.reportportal.auth.rules.exception.ErrorType;
 import com.epam.reportportal.auth.rules.exception.ReportPortalException;
 import com.epam.reportportal.auth.util.FeatureFlagHandler;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
@@ -41,10 +43,12 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Bean.Bootstrap;
 import org.springframework.context.annotation.Configuration;
 
 /**
- * Encrypt beans configuration for password values
+ * Encrypt beans configuration for password values. Encryptors are initialized in background, as
+ * the password is loaded from the data store.
  *
  * @author Andrei_Ramanchuk
  */
@@ -68,6 +72,8 @@ public class EncryptConfiguration implements InitializingBean {
 
   private final FeatureFlagHandler featureFlagHandler;
 
+  private final Supplier<String> encryptorPassword = Suppliers.memoize(this::resolvePassword);
+
   @Autowired
   public EncryptConfiguration(DataStore dataStore, FeatureFlagHandler featureFlagHandler) {
     this.dataStore = dataStore;
@@ -79,10 +85,10 @@ public class EncryptConfiguration implements InitializingBean {
    *
    * @return {@link BasicTextEncryptor} instance
    */
-  @Bean//(name = "basicEncryptor")
+  @Bean(bootstrap = Bootstrap.BACKGROUND)//(name = "basicEncryptor")
   public BasicTextEncryptor basicTextEncryptor() {
     BasicTextEncryptor basic = new BasicTextEncryptor();
-    basic.setPassword(getPassword());
+    basic.setPassword(encryptorPassword.get());
     return basic;
   }
 
@@ -91,10 +97,10 @@ public class EncryptConfiguration implements InitializingBean {
    *
    * @return {@link StandardPBEStringEncryptor} instance
    */
-  @Bean(name = "strongEncryptor")
+  @Bean(name = "strongEncryptor", bootstrap = Bootstrap.BACKGROUND)
   public StandardPBEStringEncryptor getStrongEncryptor() {
     StandardPBEStringEncryptor strong = new StandardPBEStringEncryptor();
-    strong.setPassword(getPassword());
+    strong.setPassword(encryptorPassword.get());
     strong.setAlgorithm("PBEWithMD5AndTripleDES");
     return strong;
   }
@@ -106,12 +112,12 @@ public class EncryptConfiguration implements InitializingBean {
     } else {
       secretFilePath = passwordFilePath + File.separator + passwordFile;
     }
+  }
+
+  private String resolvePassword() {
     if (password == null) {
       loadOrGenerateEncryptorPassword();
     }
-  }
-
-  private String getPassword() {
     return Optional.ofNullable(password).orElseGet(this::loadFromDataStore);
   }
 
@@ -17,6 +17,8 @@
 package com.epam.reportportal.auth.config;
 
 
+import com.epam.reportportal.auth.basic.RequestScopedUserDetailsService;
+import com.epam.reportportal.auth.config.utils.ReportPortalUserArgumentResolver;
 import com.epam.reportportal.auth.rules.commons.ExceptionMappings;
 import com.epam.reportportal.auth.rules.commons.exception.message.DefaultExceptionMessageBuilder;
 import com.epam.reportportal.auth.rules.commons.exception.rest.DefaultErrorResolver;
@@ -35,6 +37,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.oauth2.core.OAuth2AuthorizationException;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -48,11 +51,20 @@ public class WebMvcConfig implements WebMvcConfigurer {
   @Autowired
   private HttpMessageConverters messageConverters;
 
+  @Autowired
+  private RequestScopedUserDetailsService requestScopedUserDetailsService;
+
   @Override
   public void configurePathMatch(PathMatchConfigurer configurer) {
     configurer.setUseSuffixPatternMatch(false);
   }
 
+  @Override
+  public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+    // ahead of AuthenticationPrincipalArgumentResolver added by Spring Security
+    resolvers.add(0, new ReportPortalUserArgumentResolver(requestScopedUserDetailsService));
+  }
+
   @Override
   public void configureHandlerExceptionResolvers(
       List<HandlerExceptionResolver> exceptionResolvers) {
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.config.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.time.Duration;
+import java.util.Map;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Hibernate second-level cache regions kept in local Guava caches.
+ * <p>
+ * Caches are local to the instance and are not invalidated across replicas, so only immutable
+ * reference entities, mapped with {@code CacheConcurrencyStrategy.READ_ONLY}, may be cached.
+ * Entity, collection and query result regions are bounded in size and expire after write to bound
+ * memory.
+ * The update timestamps region is never evicted, otherwise cached query results could outlive a
+ * table change.
+ */
+public class GuavaRegionFactory extends RegionFactoryTemplate {
+
+  private static final String METRIC_PREFIX = "hibernate.";
+
+  private final Duration timeToLive;
+  private final long maximumSize;
+  private final MeterRegistry meterRegistry;
+
+  public GuavaRegionFactory(Duration timeToLive, long maximumSize, MeterRegistry meterRegistry) {
+    this.timeToLive = timeToLive;
+    this.maximumSize = maximumSize;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+    // regions are created on demand, nothing to prepare
+  }
+
+  @Override
+  protected void releaseFromUse() {
+    // caches are released by their regions
+  }
+
+  @Override
+  protected DomainDataStorageAccess createDomainDataStorageAccess(
+      DomainDataRegionConfig regionConfig, DomainDataRegionBuildingContext buildingContext) {
+    return new GuavaStorageAccess(boundedCache(regionConfig.getRegionName()));
+  }
+
+  @Override
+  protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+      SessionFactoryImplementor sessionFactory) {
+    return new GuavaStorageAccess(boundedCache(regionName));
+  }
+
+  @Override
+  protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+      SessionFactoryImplementor sessionFactory) {
+    return new GuavaStorageAccess(monitor(CacheBuilder.newBuilder().recordStats().build(),
+        regionName));
+  }
+
+  private Cache<Object, Object> boundedCache(String regionName) {
+    return monitor(CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(timeToLive)
+        .recordStats()
+        .build(), regionName);
+  }
+
+  private Cache<Object, Object> monitor(Cache<Object, Object> cache, String regionName) {
+    return GuavaCacheMetrics.monitor(meterRegistry, cache, METRIC_PREFIX + regionName);
+  }
+}
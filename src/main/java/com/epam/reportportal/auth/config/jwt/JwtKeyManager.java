@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.config.jwt;
+
+import com.epam.reportportal.auth.dao.ServerSettingsRepository;
+import com.epam.reportportal.auth.entity.ServerSettings;
+import com.epam.reportportal.auth.rules.exception.ErrorType;
+import com.epam.reportportal.auth.rules.exception.ReportPortalException;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.OctetSequenceKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.jasypt.exceptions.EncryptionOperationNotPossibleException;
+import org.jasypt.util.text.TextEncryptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jose.jws.JwsAlgorithm;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.util.StringUtils;
+
+/**
+ * Holds key material used to sign and verify access tokens.
+ * <p>
+ * Symmetric (HS256) tokens are signed with the shared {@code secret.key}. Asymmetric (RS256, ES256)
+ * keys are stored as JWKs in the {@code server_settings} table, so every replica signs with the
+ * same key and publishes the same public key set. The stored JWKs include the private key, so they
+ * are encrypted with the encryptor of integration secrets, keys stored in plain text by earlier
+ * versions are encrypted on load. The shared secret always stays in the
+ * verification set, so tokens issued before switching to an asymmetric algorithm remain valid until
+ * they expire.
+ * <p>
+ * Key material is loaded once and refreshed from the database periodically, so keys rotated on one
+ * replica reach the others without a restart. A new key is published right away but used for
+ * signing only after the activation delay, which gives token verifiers time to refresh their cached
+ * key sets. Previous keys are kept for verification until the tokens signed with them expire, so
+ * rotation does not force users to log in again.
+ */
+@Slf4j
+public class JwtKeyManager implements JWKSource<SecurityContext> {
+
+  public static final Set<JWSAlgorithm> SUPPORTED_ALGORITHMS = Set.of(JWSAlgorithm.HS256,
+      JWSAlgorithm.RS256, JWSAlgorithm.ES256);
+
+  static final String SECRET_KEY = "secret.key";
+  static final String JWK_KEY_PREFIX = "secret.jwk.";
+  static final String ROTATION_KEY = "secret.jwk-rotation";
+
+  private static final int RSA_KEY_SIZE = 2048;
+  private static final Duration MIN_RELOAD_INTERVAL = Duration.ofSeconds(10);
+  private static final Comparator<JWK> BY_ISSUE_TIME = Comparator.comparing(JWK::getIssueTime,
+      Comparator.nullsFirst(Comparator.naturalOrder())).thenComparing(JWK::getKeyID);
+
+  private final ServerSettingsRepository serverSettingsRepository;
+  private final TextEncryptor encryptor;
+  private final JWSAlgorithm signingAlgorithm;
+  private final String signingKey;
+  private final Duration rotationInterval;
+  private final Duration activationDelay;
+  private final Duration retention;
+
+  private volatile JWKSet jwkSet;
+  private volatile JWK activeKey;
+  private volatile Instant lastReload = Instant.EPOCH;
+
+  /**
+   * @param serverSettingsRepository Storage of the key material
+   * @param encryptor                Encryptor of the stored private keys
+   * @param signingAlgorithm         Algorithm new tokens are signed with
+   * @param signingKey               Shared secret from configuration, has priority over the one
+   *                                 stored in database
+   * @param rotationInterval         Interval of scheduled key rotation, zero disables it
+   * @param activationDelay          Time between publication of a new key and its use for signing
+   * @param retention                Time a replaced key is kept for verification, should not be
+   *                                 less than the longest token lifetime
+   */
+  public JwtKeyManager(ServerSettingsRepository serverSettingsRepository, TextEncryptor encryptor,
+      String signingAlgorithm, String signingKey, Duration rotationInterval,
+      Duration activationDelay, Duration retention) {
+    this.serverSettingsRepository = serverSettingsRepository;
+    this.encryptor = encryptor;
+    this.signingAlgorithm = JWSAlgorithm.parse(signingAlgorithm);
+    if (!SUPPORTED_ALGORITHMS.contains(this.signingAlgorithm)) {
+      throw new IllegalArgumentException("Unsupported JWT signing algorithm: " + signingAlgorithm);
+    }
+    this.signingKey = signingKey;
+    this.rotationInterval = rotationInterval;
+    this.activationDelay = activationDelay;
+    this.retention = retention;
+    reload();
+  }
+
+  /**
+   * Creates a new signing key of the configured algorithm. The previous keys stay available for
+   * verification.
+   *
+   * @return ID of the new signing key
+   */
+  public String rotate() {
+    if (isSymmetric()) {
+      throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+          "Rotation is supported for asymmetric signing algorithms only");
+    }
+    JWK key = saveNewKey();
+    log.info("JWT signing key '{}' has been generated", key.getKeyID());
+    reload();
+    return key.getKeyID();
+  }
+
+  /**
+   * Picks up keys rotated on other replicas and performs scheduled rotation. Only one replica wins
+   * the rotation, the others receive the new key on the next refresh.
+   */
+  @Scheduled(fixedDelayString = "${rp.jwt.keys.refresh-interval}")
+  public void refresh() {
+    reload();
+    if (isSymmetric() || rotationInterval.isZero()) {
+      return;
+    }
+    Instant now = Instant.now();
+    Optional<String> lastRotation = serverSettingsRepository.findByKey(ROTATION_KEY)
+        .map(ServerSettings::getValue);
+    if (lastRotation.isEmpty()) {
+      serverSettingsRepository.insertIfAbsent(ROTATION_KEY, String.valueOf(now.toEpochMilli()));
+      return;
+    }
+    Instant rotatedAt = Instant.ofEpochMilli(Long.parseLong(lastRotation.get()));
+    if (rotatedAt.plus(rotationInterval).isBefore(now)
+        && serverSettingsRepository.compareAndSet(ROTATION_KEY, lastRotation.get(),
+        String.valueOf(now.toEpochMilli())) > 0) {
+      rotate();
+      removeRetiredKeys(now);
+    }
+  }
+
+  /**
+   * Reloads key material from the storage.
+   */
+  public synchronized void reload() {
+    List<JWK> keys = new ArrayList<>();
+    OctetSequenceKey secret = loadSecret();
+    keys.add(secret);
+    List<JWK> storedKeys = loadStoredKeys();
+    if (!isSymmetric() && selectSigningKey(storedKeys).isEmpty()) {
+      // replicas starting concurrently may all generate a key, the newest one wins everywhere
+      saveNewKey();
+      storedKeys = loadStoredKeys();
+    }
+    keys.addAll(storedKeys);
+
+    JWK signing = isSymmetric() ? secret : selectSigningKey(storedKeys)
+        .orElseThrow(() -> new IllegalStateException("Unable to load JWT signing key"));
+
+    this.jwkSet = new JWKSet(keys);
+    this.activeKey = signing;
+    this.lastReload = Instant.now();
+  }
+
+  /**
+   * @return All keys accepted for verification, including private and secret ones
+   */
+  public JWKSet getJwkSet() {
+    return jwkSet;
+  }
+
+  /**
+   * @return Public keys to be published to token verifiers
+   */
+  public JWKSet getPublicJwkSet() {
+    return jwkSet.toPublicJWKSet();
+  }
+
+  /**
+   * @return Header for a token signed with the active key
+   */
+  public JwsHeader createJwsHeader() {
+    JWK key = activeKey;
+    return JwsHeader.with(toJwsAlgorithm(key.getAlgorithm()))
+        .keyId(key.getKeyID())
+        .type("JWT")
+        .build();
+  }
+
+  /**
+   * Selects keys from the loaded set. A token signed with an unknown key may come from a replica
+   * that has already rotated the key, so the set is reloaded once before giving up.
+   */
+  @Override
+  public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+    List<JWK> keys = jwkSelector.select(jwkSet);
+    if (keys.isEmpty() && jwkSelector.getMatcher().getKeyIDs() != null
+        && lastReload.plus(MIN_RELOAD_INTERVAL).isBefore(Instant.now())) {
+      reload();
+      keys = jwkSelector.select(jwkSet);
+    }
+    return keys;
+  }
+
+  private boolean isSymmetric() {
+    return JWSAlgorithm.HS256.equals(signingAlgorithm);
+  }
+
+  private Optional<JWK> selectSigningKey(List<JWK> storedKeys) {
+    List<JWK> candidates = storedKeys.stream()
+        .filter(it -> signingAlgorithm.equals(it.getAlgorithm()))
+        .sorted(BY_ISSUE_TIME.reversed())
+        .toList();
+    Date activationBound = Date.from(Instant.now().minus(activationDelay));
+    // until the first key gets activated, sign with the one published for the longest time
+    return candidates.stream()
+        .filter(it -> it.getIssueTime() == null || !it.getIssueTime().after(activationBound))
+        .findFirst()
+        .or(() -> candidates.stream().reduce((newer, older) -> older));
+  }
+
+  /**
+   * Removes keys that have been replaced for longer than the retention period, so no valid token
+   * can be signed with them.
+   */
+  private void removeRetiredKeys(Instant now) {
+    List<ServerSettings> settings = serverSettingsRepository.findAllByKeyStartingWith(
+        JWK_KEY_PREFIX);
+    List<JWK> keys = loadStoredKeys().stream().sorted(BY_ISSUE_TIME).toList();
+    for (int i = 0; i < keys.size() - 1; i++) {
+      Date replacedAt = keys.get(i + 1).getIssueTime();
+      if (replacedAt != null && replacedAt.toInstant().plus(activationDelay).plus(retention)
+          .isBefore(now)) {
+        String settingKey = JWK_KEY_PREFIX + keys.get(i).getKeyID();
+        settings.stream()
+            .filter(it -> settingKey.equals(it.getKey()))
+            .forEach(serverSettingsRepository::delete);
+        log.info("JWT signing key '{}' has been retired", keys.get(i).getKeyID());
+      }
+    }
+    reload();
+  }
+
+  private OctetSequenceKey loadSecret() {
+    String secret = StringUtils.hasText(signingKey) ? signingKey : loadOrGenerateSecret();
+    OctetSequenceKey key = new OctetSequenceKey.Builder(secret.getBytes(StandardCharsets.UTF_8))
+        .algorithm(JWSAlgorithm.HS256)
+        .keyUse(KeyUse.SIGNATURE)
+        .build();
+    try {
+      return new OctetSequenceKey.Builder(key).keyIDFromThumbprint().build();
+    } catch (JOSEException e) {
+      throw new IllegalStateException("Unable to compute JWT secret key ID", e);
+    }
+  }
+
+  private String loadOrGenerateSecret() {
+    return serverSettingsRepository.findByKey(SECRET_KEY)
+        .or(() -> {
+          // another replica may generate the secret concurrently, re-read the stored one
+          serverSettingsRepository.generateSecret();
+          return serverSettingsRepository.findByKey(SECRET_KEY);
+        })
+        .map(ServerSettings::getValue)
+        .orElseThrow(() -> new IllegalStateException("Unable to generate JWT secret"));
+  }
+
+  private List<JWK> loadStoredKeys() {
+    List<JWK> keys = new ArrayList<>();
+    for (ServerSettings setting : serverSettingsRepository.findAllByKeyStartingWith(
+        JWK_KEY_PREFIX)) {
+      try {
+        keys.add(JWK.parse(decrypt(setting)));
+      } catch (ParseException | EncryptionOperationNotPossibleException e) {
+        log.error("Unable to parse JWT signing key '{}'", setting.getKey(), e);
+      }
+    }
+    return keys;
+  }
+
+  private String decrypt(ServerSettings setting) {
+    String value = setting.getValue();
+    if (!value.startsWith("{")) {
+      return encryptor.decrypt(value);
+    }
+    // stored in plain text by an earlier version, another replica may encrypt it concurrently
+    serverSettingsRepository.compareAndSet(setting.getKey(), value, encryptor.encrypt(value));
+    return value;
+  }
+
+  private JWK saveNewKey() {
+    JWK key = generateKey();
+    serverSettingsRepository.insertIfAbsent(JWK_KEY_PREFIX + key.getKeyID(),
+        encryptor.encrypt(key.toJSONString()));
+    return key;
+  }
+
+  private JWK generateKey() {
+    try {
+      Date now = new Date();
+      if (JWSAlgorithm.ES256.equals(signingAlgorithm)) {
+        return new ECKeyGenerator(Curve.P_256)
+            .algorithm(JWSAlgorithm.ES256)
+            .keyUse(KeyUse.SIGNATURE)
+            .keyIDFromThumbprint(true)
+            .issueTime(now)
+            .generate();
+      }
+      return new RSAKeyGenerator(RSA_KEY_SIZE)
+          .algorithm(JWSAlgorithm.RS256)
+          .keyUse(KeyUse.SIGNATURE)
+          .keyIDFromThumbprint(true)
+          .issueTime(now)
+          .generate();
+    } catch (JOSEException e) {
+      throw new IllegalStateException("Unable to generate JWT signing key", e);
+    }
+  }
+
+  private static JwsAlgorithm toJwsAlgorithm(com.nimbusds.jose.Algorithm algorithm) {
+    MacAlgorithm macAlgorithm = MacAlgorithm.from(algorithm.getName());
+    return macAlgorithm != null ? macAlgorithm : SignatureAlgorithm.from(algorithm.getName());
+  }
+}
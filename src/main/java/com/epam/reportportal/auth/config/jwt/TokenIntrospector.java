@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.config.jwt;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.security.oauth2.core.OAuth2TokenIntrospectionClaimNames;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * Answers token introspection requests from the verified token claims. Signature, expiration and
+ * revocation are checked by the {@link JwtDecoder}, so introspection of a valid token is served
+ * without database access.
+ */
+public class TokenIntrospector {
+
+  private static final Map<String, Object> INACTIVE = Map.of(
+      OAuth2TokenIntrospectionClaimNames.ACTIVE, false);
+
+  private final JwtDecoder jwtDecoder;
+
+  public TokenIntrospector(JwtDecoder jwtDecoder) {
+    this.jwtDecoder = jwtDecoder;
+  }
+
+  /**
+   * @param token Access token value
+   * @return Introspection response as described in RFC 7662
+   */
+  public Map<String, Object> introspect(String token) {
+    return decode(token).map(TokenIntrospector::toResponse).orElse(INACTIVE);
+  }
+
+  /**
+   * @param token Access token value
+   * @return Decoded token if it is active
+   */
+  public Optional<Jwt> decode(String token) {
+    try {
+      return Optional.of(jwtDecoder.decode(token));
+    } catch (JwtException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static Map<String, Object> toResponse(Jwt jwt) {
+    Map<String, Object> response = new LinkedHashMap<>();
+    response.put(OAuth2TokenIntrospectionClaimNames.ACTIVE, true);
+    jwt.getClaims().forEach((name, value) ->
+        response.put(name, value instanceof Instant instant ? instant.getEpochSecond() : value));
+    if (jwt.getClaim("scopes") instanceof Collection<?> scopes) {
+      response.put(OAuth2TokenIntrospectionClaimNames.SCOPE, String.join(" ",
+          scopes.stream().map(String::valueOf).toList()));
+    }
+    Optional.ofNullable(jwt.getSubject())
+        .ifPresent(it -> response.put(OAuth2TokenIntrospectionClaimNames.USERNAME, it));
+    return response;
+  }
+}
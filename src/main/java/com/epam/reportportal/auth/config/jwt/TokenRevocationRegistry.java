@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.config.jwt;
+
+import com.epam.reportportal.auth.dao.RevokedTokenRepository;
+import com.epam.reportportal.auth.entity.token.RevokedToken;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * In-memory view of revoked access tokens.
+ * <p>
+ * Revoked token IDs are kept in a bloom filter, so a check of a valid token never touches the
+ * database. Only a filter hit, which is either a revoked token or a false positive, is confirmed
+ * against the {@code revoked_token} table. Revocations made on other replicas are pulled
+ * incrementally by ID, the filter is rebuilt periodically to drop expired tokens. IDENTITY values
+ * may become visible out of order, so every pull re-reads an overlap window behind the last seen ID
+ * to pick up revocations committed late with a lower ID.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry implements OAuth2TokenValidator<Jwt> {
+
+  private static final OAuth2Error REVOKED = new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN,
+      "Token has been revoked", null);
+
+  private final RevokedTokenRepository revokedTokenRepository;
+  private final int expectedInsertions;
+  private final double falsePositiveProbability;
+  private final long rebuildInterval;
+  private final long syncOverlap;
+
+  private volatile BloomFilter<CharSequence> filter;
+  private volatile long lastSyncedId;
+  private volatile long lastRebuild;
+
+  public TokenRevocationRegistry(RevokedTokenRepository revokedTokenRepository,
+      @Value("${rp.jwt.revocation.expected-insertions}") int expectedInsertions,
+      @Value("${rp.jwt.revocation.false-positive-probability}") double falsePositiveProbability,
+      @Value("${rp.jwt.revocation.rebuild-interval}") long rebuildInterval,
+      @Value("${rp.jwt.revocation.sync-overlap}") long syncOverlap) {
+    this.revokedTokenRepository = revokedTokenRepository;
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveProbability = falsePositiveProbability;
+    this.rebuildInterval = rebuildInterval;
+    this.syncOverlap = syncOverlap;
+    this.filter = newFilter();
+  }
+
+  /**
+   * Revokes the token till its expiration.
+   *
+   * @param jwt Token to revoke
+   */
+  @Transactional
+  public void revoke(Jwt jwt) {
+    if (jwt.getId() == null || isRevoked(jwt.getId())) {
+      return;
+    }
+    Instant expiresAt = jwt.getExpiresAt() != null ? jwt.getExpiresAt() : Instant.now();
+    revokedTokenRepository.save(new RevokedToken(jwt.getId(), expiresAt));
+    filter.put(jwt.getId());
+  }
+
+  /**
+   * @param jti Token ID
+   * @return {@code true} if the token has been revoked
+   */
+  public boolean isRevoked(String jti) {
+    return filter.mightContain(jti) && revokedTokenRepository.existsByJti(jti);
+  }
+
+  @Override
+  public OAuth2TokenValidatorResult validate(Jwt token) {
+    return token.getId() != null && isRevoked(token.getId())
+        ? OAuth2TokenValidatorResult.failure(REVOKED)
+        : OAuth2TokenValidatorResult.success();
+  }
+
+  /**
+   * Pulls revocations made since the last synchronization. Rebuilds the filter from scratch once
+   * per rebuild interval, removing expired revocations from the database.
+   */
+  @Transactional
+  @Scheduled(fixedDelayString = "${rp.jwt.revocation.sync-interval}")
+  public void sync() {
+    if (System.currentTimeMillis() - lastRebuild >= rebuildInterval) {
+      rebuild();
+      return;
+    }
+    long fromId = Math.max(0L, lastSyncedId - syncOverlap);
+    lastSyncedId = Math.max(lastSyncedId, load(filter, fromId));
+  }
+
+  private void rebuild() {
+    int removed = revokedTokenRepository.deleteExpired(Instant.now());
+    BloomFilter<CharSequence> rebuilt = newFilter();
+    lastSyncedId = load(rebuilt, 0L);
+    filter = rebuilt;
+    lastRebuild = System.currentTimeMillis();
+    log.debug("Token revocation filter rebuilt, {} expired revocations removed", removed);
+  }
+
+  private long load(BloomFilter<CharSequence> target, long fromId) {
+    long lastId = fromId;
+    List<RevokedToken> batch;
+    do {
+      batch = revokedTokenRepository.findTop1000ByIdGreaterThanOrderByIdAsc(lastId);
+      for (RevokedToken token : batch) {
+        target.put(token.getJti());
+        lastId = token.getId();
+      }
+    } while (batch.size() == 1000);
+    return lastId;
+  }
+
+  private BloomFilter<CharSequence> newFilter() {
+    return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions,
+        falsePositiveProbability);
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.config.rabbit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+
+/**
+ * Metrics of messages published to RabbitMQ: publish latency including broker confirmation,
+ * messages returned as unroutable and the number of idle cached channels.
+ */
+public class AmqpPublishMetrics implements MeterBinder {
+
+  private final CachingConnectionFactory connectionFactory;
+
+  private Timer succeeded;
+  private Timer failed;
+  private Counter returned;
+
+  public AmqpPublishMetrics(CachingConnectionFactory connectionFactory) {
+    this.connectionFactory = connectionFactory;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    succeeded = Timer.builder("rp.amqp.publish")
+        .description("Time to publish a batch of messages and receive broker confirms")
+        .tag("outcome", "success")
+        .register(registry);
+    failed = Timer.builder("rp.amqp.publish")
+        .description("Time to publish a batch of messages and receive broker confirms")
+        .tag("outcome", "failure")
+        .register(registry);
+    returned = Counter.builder("rp.amqp.returned")
+        .description("Messages returned by the broker as unroutable")
+        .register(registry);
+    Gauge.builder("rp.amqp.channels.idle", connectionFactory,
+            factory -> Double.parseDouble(
+                factory.getCacheProperties().getProperty("idleChannelsNotTx", "0")))
+        .description("Idle channels in the channel cache")
+        .register(registry);
+  }
+
+  /**
+   * @param duration Time spent on publishing
+   * @param success  Whether the broker has confirmed the messages
+   */
+  public void recordPublish(Duration duration, boolean success) {
+    Timer timer = success ? succeeded : failed;
+    if (timer != null) {
+      timer.record(duration);
+    }
+  }
+
+  public void recordReturned() {
+    if (returned != null) {
+      returned.increment();
+    }
+  }
+}
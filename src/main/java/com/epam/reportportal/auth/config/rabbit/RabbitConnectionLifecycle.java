@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.config.rabbit;
+
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.context.Lifecycle;
+
+/**
+ * Closes the broker connection when the application context stops, e.g. before a CRaC checkpoint.
+ * The connection factory opens a new connection on the next use after restart.
+ */
+public class RabbitConnectionLifecycle implements Lifecycle {
+
+  private final CachingConnectionFactory connectionFactory;
+
+  private volatile boolean running = true;
+
+  public RabbitConnectionLifecycle(CachingConnectionFactory connectionFactory) {
+    this.connectionFactory = connectionFactory;
+  }
+
+  @Override
+  public void start() {
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    connectionFactory.resetConnection();
+    running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+}
@@ -16,12 +16,14 @@
 
 package com.epam.reportportal.auth.config.rabbit;
 
+import com.epam.reportportal.auth.event.domain.AbstractEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.net.URI;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
-import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory.ConfirmType;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
@@ -29,13 +31,20 @@ import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
 
+@Slf4j
 @EnableRabbit
 @Configuration
 public class RabbitMqConfig {
 
+  private static final String DOMAIN_EVENTS_PACKAGE = "com.epam.reportportal.auth.event.domain";
+
   private final ObjectMapper objectMapper;
 
   public RabbitMqConfig(ObjectMapper objectMapper) {
@@ -44,23 +53,66 @@ public class RabbitMqConfig {
 
   @Bean
   public MessageConverter jsonMessageConverter() {
+    warmUpSerializers();
     return new Jackson2JsonMessageConverter(objectMapper);
   }
 
   @Bean
-  public ConnectionFactory connectionFactory(@Value("${rp.amqp.addresses}") URI addresses,
-      @Value("${rp.amqp.base-vhost}") String virtualHost) {
+  public CachingConnectionFactory connectionFactory(@Value("${rp.amqp.addresses}") URI addresses,
+      @Value("${rp.amqp.base-vhost}") String virtualHost,
+      @Value("${rp.amqp.channel-cache-size}") int channelCacheSize,
+      @Value("${rp.amqp.channel-checkout-timeout}") long channelCheckoutTimeout) {
     final CachingConnectionFactory cachingConnectionFactory = new CachingConnectionFactory(
         addresses);
     cachingConnectionFactory.setVirtualHost(virtualHost);
+    cachingConnectionFactory.setChannelCacheSize(channelCacheSize);
+    cachingConnectionFactory.setChannelCheckoutTimeout(channelCheckoutTimeout);
+    // domain events relay waits for confirms of each batch
+    cachingConnectionFactory.setPublisherConfirmType(ConfirmType.SIMPLE);
+    cachingConnectionFactory.setPublisherReturns(true);
     return cachingConnectionFactory;
   }
 
   @Bean
-  public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+  public RabbitConnectionLifecycle rabbitConnectionLifecycle(
+      CachingConnectionFactory connectionFactory) {
+    return new RabbitConnectionLifecycle(connectionFactory);
+  }
+
+  @Bean
+  public AmqpPublishMetrics amqpPublishMetrics(CachingConnectionFactory connectionFactory) {
+    return new AmqpPublishMetrics(connectionFactory);
+  }
+
+  @Bean
+  public RabbitTemplate rabbitTemplate(CachingConnectionFactory connectionFactory,
+      AmqpPublishMetrics amqpPublishMetrics) {
     RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
     rabbitTemplate.setMessageConverter(jsonMessageConverter());
+    rabbitTemplate.setMandatory(true);
+    rabbitTemplate.setObservationEnabled(true);
+    rabbitTemplate.setReturnsCallback(returned -> {
+      amqpPublishMetrics.recordReturned();
+      log.warn("Message to exchange '{}' with routing key '{}' has been returned: {}",
+          returned.getExchange(), returned.getRoutingKey(), returned.getReplyText());
+    });
     return rabbitTemplate;
   }
 
+  /**
+   * Resolves JSON serializers of domain events at startup, so the first published event does not
+   * pay for the type introspection.
+   */
+  private void warmUpSerializers() {
+    ClassPathScanningCandidateComponentProvider scanner =
+        new ClassPathScanningCandidateComponentProvider(false);
+    scanner.addIncludeFilter(new AssignableTypeFilter(AbstractEvent.class));
+    for (BeanDefinition definition : scanner.findCandidateComponents(DOMAIN_EVENTS_PACKAGE)) {
+      Class<?> type = ClassUtils.resolveClassName(definition.getBeanClassName(),
+          getClass().getClassLoader());
+      if (!objectMapper.canSerialize(type)) {
+        log.warn("No JSON serializer found for domain event '{}'", type.getName());
+      }
+    }
+  }
 }
@@ -20,6 +20,7 @@ import com.epam.reportportal.auth.AuthFailureHandler;
 import com.epam.reportportal.auth.integration.saml.ReportPortalSamlAuthenticationManager;
 import com.epam.reportportal.auth.integration.saml.SamlAuthSuccessHandler;
 import com.epam.reportportal.auth.integration.saml.SamlUserReplicator;
+import com.epam.reportportal.auth.util.FlowMetrics;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -47,13 +48,17 @@ public class Saml2AuthenticationConfiguration {
 
   private final RelyingPartyRegistrationRepository relyingPartyRegistrationRepository;
 
+  private final FlowMetrics flowMetrics;
+
   public Saml2AuthenticationConfiguration(SamlAuthSuccessHandler successHandler,
       AuthFailureHandler failureHandler, SamlUserReplicator samlUserReplicator,
-      RelyingPartyRegistrationRepository relyingPartyRegistrationRepository) {
+      RelyingPartyRegistrationRepository relyingPartyRegistrationRepository,
+      FlowMetrics flowMetrics) {
     this.successHandler = successHandler;
     this.failureHandler = failureHandler;
     this.samlUserReplicator = samlUserReplicator;
     this.relyingPartyRegistrationRepository = relyingPartyRegistrationRepository;
+    this.flowMetrics = flowMetrics;
   }
 
   @Bean
@@ -63,7 +68,8 @@ public class Saml2AuthenticationConfiguration {
         relyingPartyRegistrationRepository,
         SAML_PROCESSING_URL
     );
-    saml2Filter.setAuthenticationManager(new ReportPortalSamlAuthenticationManager(samlUserReplicator));
+    saml2Filter.setAuthenticationManager(
+        new ReportPortalSamlAuthenticationManager(samlUserReplicator, flowMetrics));
     saml2Filter.setAuthenticationSuccessHandler(successHandler);
     saml2Filter.setAuthenticationFailureHandler(failureHandler);
 
@@ -16,7 +16,7 @@
 package com.epam.reportportal.auth.config.saml;
 
 import com.epam.reportportal.auth.integration.saml.ReloadableRelyingPartyRegistrationRepository;
-import com.epam.reportportal.auth.integration.saml.RelyingPartyBuilder;
+import java.util.List;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -31,16 +31,16 @@ import org.springframework.security.saml2.provider.service.web.RelyingPartyRegis
 @EnableWebSecurity
 public class SamlServiceProviderConfiguration {
 
-  private final RelyingPartyBuilder relyingPartyBuilder;
-
-
-  public SamlServiceProviderConfiguration(RelyingPartyBuilder relyingPartyBuilder) {
-    this.relyingPartyBuilder = relyingPartyBuilder;
-  }
-
+  /**
+   * Registrations are loaded after the application is ready, as IDP metadata is fetched over the
+   * network.
+   *
+   * @return {@link RelyingPartyRegistrationRepository}
+   * @see com.epam.reportportal.auth.integration.saml.SamlRegistrationsInitializer
+   */
   @Bean
   public RelyingPartyRegistrationRepository relyingPartyRegistrationRepository() {
-    return new ReloadableRelyingPartyRegistrationRepository(relyingPartyBuilder.createRelyingPartyRegistrations());
+    return new ReloadableRelyingPartyRegistrationRepository(List.of());
   }
 
   @Bean
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.config.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Wraps invocations of Spring Data repositories into observations, so every database round trip
+ * of a request shows up as a span named after the repository method.
+ */
+public class RepositoryObservationPostProcessor implements BeanPostProcessor {
+
+  static final String REPOSITORY_OBSERVATION = "rp.repository.invocation";
+
+  private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+  public RepositoryObservationPostProcessor(
+      ObjectProvider<ObservationRegistry> observationRegistry) {
+    this.observationRegistry = observationRegistry;
+  }
+
+  @Override
+  public Object postProcessBeforeInitialization(Object bean, String beanName) {
+    if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+      factoryBean.addRepositoryFactoryCustomizer(
+          factory -> factory.addRepositoryProxyPostProcessor((proxyFactory, information) -> {
+            String repository = information.getRepositoryInterface().getSimpleName();
+            proxyFactory.addAdvice(observingInterceptor(repository));
+          }));
+    }
+    return bean;
+  }
+
+  private MethodInterceptor observingInterceptor(String repository) {
+    return invocation -> {
+      String method = invocation.getMethod().getName();
+      return Observation.createNotStarted(REPOSITORY_OBSERVATION,
+              observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP))
+          .contextualName(repository + "." + method)
+          .lowCardinalityKeyValue("repository", repository)
+          .lowCardinalityKeyValue("method", method)
+          .observeChecked(invocation::proceed);
+    };
+  }
+}
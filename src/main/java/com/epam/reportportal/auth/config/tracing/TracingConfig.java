@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.config.tracing;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.tracing.ConditionalOnEnabledTracing;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+/**
+ * Tracing of the login pipeline. Spans are exported to an OTLP collector and, optionally, written
+ * to the application log.
+ */
+@Configuration
+public class TracingConfig {
+
+  /**
+   * Repository invocations are only wrapped into observations when tracing is enabled, otherwise
+   * every database round trip would pay for an observation without producing a span.
+   */
+  @Bean
+  @ConditionalOnEnabledTracing
+  public static RepositoryObservationPostProcessor repositoryObservationPostProcessor(
+      ObjectProvider<ObservationRegistry> observationRegistry) {
+    return new RepositoryObservationPostProcessor(observationRegistry);
+  }
+
+  /**
+   * Propagates the current observation into tasks of the application task executors.
+   *
+   * @return {@link ContextPropagatingTaskDecorator}
+   */
+  @Bean
+  public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+    return new ContextPropagatingTaskDecorator();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "rp.tracing.logging.enabled", havingValue = "true")
+  public SpanExporter loggingSpanExporter() {
+    return LoggingSpanExporter.create();
+  }
+}
@@ -69,7 +69,8 @@ public class ConvertToOauthToken {
     // ----- Access Token -----
     OAuth2TokenContext tokenContext = tokenContextBuilder.tokenType(OAuth2TokenType.ACCESS_TOKEN)
         .principal(authentication).build();
-    OAuth2Token generatedAccessToken = tokenService.createToken(ReportPortalClient.ui.name(), tokenContext.getPrincipal().getName(),
+    OAuth2Token generatedAccessToken = tokenService.createToken(ReportPortalClient.ui.name(),
+        AuthorizationGrantType.PASSWORD, tokenContext.getPrincipal().getName(),
         tokenContext.getPrincipal().getAuthorities(), Collections.emptyMap());
     if (generatedAccessToken == null) {
       OAuth2Error error = new OAuth2Error(OAuth2ErrorCodes.SERVER_ERROR,
@@ -15,6 +15,7 @@
  */
 package com.epam.reportportal.auth.config.utils;
 
+import com.epam.reportportal.auth.util.FlowMetrics;
 import java.util.Collection;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
@@ -31,12 +32,18 @@ public class JwtReportPortalUserConverter implements Converter<Jwt, AbstractAuth
 
   private final UserDetailsService userDetailsService;
 
+  private final FlowMetrics flowMetrics;
+
   private final JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter;
 
   private final static String PRINCIPAL_CLAIM_NAME = "user_name";
 
-  public JwtReportPortalUserConverter(UserDetailsService userDetailsService) {
+  private final static String PROVIDER_NAME = "jwt";
+
+  public JwtReportPortalUserConverter(UserDetailsService userDetailsService,
+      FlowMetrics flowMetrics) {
     this.userDetailsService = userDetailsService;
+    this.flowMetrics = flowMetrics;
 
     this.jwtGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
     this.jwtGrantedAuthoritiesConverter.setAuthoritiesClaimName("authorities");
@@ -45,6 +52,11 @@ public class JwtReportPortalUserConverter implements Converter<Jwt, AbstractAuth
 
   @Override
   public final AbstractAuthenticationToken convert(Jwt jwt) {
+    return flowMetrics.record(FlowMetrics.PRINCIPAL_CONVERSION, PROVIDER_NAME,
+        () -> convertJwt(jwt));
+  }
+
+  private AbstractAuthenticationToken convertJwt(Jwt jwt) {
     Collection<GrantedAuthority> authorities = this.jwtGrantedAuthoritiesConverter.convert(jwt);
 
     String username = jwt.getClaimAsString(PRINCIPAL_CLAIM_NAME);
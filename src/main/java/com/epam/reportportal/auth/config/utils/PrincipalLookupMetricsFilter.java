@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.config.utils;
+
+import com.epam.reportportal.auth.basic.RequestScopedUserDetailsService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import javax.annotation.Nonnull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Records how many users have been loaded from the database while serving a request.
+ */
+@Component
+public class PrincipalLookupMetricsFilter extends OncePerRequestFilter {
+
+  private final DistributionSummary lookups;
+
+  public PrincipalLookupMetricsFilter(MeterRegistry meterRegistry) {
+    this.lookups = DistributionSummary.builder("rp.auth.principal.lookups")
+        .description("Users loaded from the database per request")
+        .register(meterRegistry);
+  }
+
+  @Override
+  protected void doFilterInternal(@Nonnull HttpServletRequest request,
+      @Nonnull HttpServletResponse response, @Nonnull FilterChain filterChain)
+      throws ServletException, IOException {
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+      if (requestAttributes != null) {
+        lookups.record(RequestScopedUserDetailsService.getLookupCount(requestAttributes));
+      }
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.config.utils;
+
+import com.epam.reportportal.auth.commons.ReportPortalUser;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link ReportPortalUser} handler arguments. The principal built by the security chain is
+ * reused as is, otherwise the user is loaded by the request scoped {@link UserDetailsService}.
+ * Arguments annotated with {@link AuthenticationPrincipal} are resolved the same way, unless the
+ * annotation declares an expression, which is left to Spring Security. The resolver has to be
+ * registered ahead of Spring Security's own principal resolver.
+ */
+public class ReportPortalUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+  private final UserDetailsService userDetailsService;
+
+  public ReportPortalUserArgumentResolver(UserDetailsService userDetailsService) {
+    this.userDetailsService = userDetailsService;
+  }
+
+  @Override
+  public boolean supportsParameter(MethodParameter parameter) {
+    if (!ReportPortalUser.class.isAssignableFrom(parameter.getParameterType())) {
+      return false;
+    }
+    AuthenticationPrincipal annotation = parameter.getParameterAnnotation(
+        AuthenticationPrincipal.class);
+    return annotation == null || annotation.expression().isEmpty();
+  }
+
+  @Override
+  public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+      NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+      return null;
+    }
+    if (authentication.getPrincipal() instanceof ReportPortalUser user) {
+      return user;
+    }
+    UserDetails userDetails = userDetailsService.loadUserByUsername(authentication.getName());
+    return userDetails instanceof ReportPortalUser user ? user : null;
+  }
+}
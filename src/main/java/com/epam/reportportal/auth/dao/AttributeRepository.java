@@ -18,9 +18,12 @@ package com.epam.reportportal.auth.dao;
 
 
 import com.epam.reportportal.auth.entity.attribute.Attribute;
+import jakarta.persistence.QueryHint;
 import java.util.Collection;
 import java.util.Set;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 /**
@@ -28,6 +31,7 @@ import org.springframework.data.repository.query.Param;
  */
 public interface AttributeRepository extends ReportPortalRepository<Attribute, Long> {
 
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   Set<Attribute> findAllByNameIn(Collection<String> names);
 
   @Query(value = """
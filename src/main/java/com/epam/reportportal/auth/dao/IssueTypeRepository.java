@@ -33,12 +33,7 @@ import org.springframework.data.repository.query.Param;
  */
 public interface IssueTypeRepository extends ReportPortalRepository<IssueType, Long> {
 
-  @Query(value = """
-              SELECT it.* from issue_type it 
-                  join public.issue_group ig on it.issue_group_id = ig.issue_group_id 
-                  where it.locator in (:locators)
-      """,
-      nativeQuery = true)
+  @Query("SELECT it FROM IssueType it JOIN it.issueGroup WHERE it.locator IN :locators")
   List<IssueType> getDefaultIssueTypes(@Param("locators") List<String> locators);
 
 }
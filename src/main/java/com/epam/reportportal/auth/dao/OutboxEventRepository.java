@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.dao;
+
+import com.epam.reportportal.auth.entity.outbox.OutboxEvent;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends ReportPortalRepository<OutboxEvent, Long> {
+
+  /**
+   * Locks the next batch of events due for delivery. Rows locked by another instance are skipped,
+   * so several instances can relay events concurrently.
+   *
+   * @param now   Current time
+   * @param limit Batch size
+   * @return Events in the order they have been stored
+   */
+  @Query(value = """
+          SELECT * FROM domain_event_outbox
+          WHERE next_attempt_at <= :now
+          ORDER BY id
+          LIMIT :limit
+          FOR UPDATE SKIP LOCKED
+      """, nativeQuery = true)
+  List<OutboxEvent> lockNextBatch(@Param("now") Instant now, @Param("limit") int limit);
+}
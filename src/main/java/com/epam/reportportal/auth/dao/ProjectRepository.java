@@ -30,6 +30,27 @@ public interface ProjectRepository extends ReportPortalRepository<Project, Long>
 
   boolean existsByName(String name);
 
+  /**
+   * Finds the greatest numeric suffix of projects named {@code name_<n>} in a single index range
+   * scan over {@code pattern}.
+   *
+   * @param name    Base project name
+   * @param pattern {@code LIKE} pattern matching {@code name_} followed by anything, with the
+   *                wildcards of the name escaped by a backslash
+   * @return Greatest suffix in use, {@code 0} if only the base name is taken, {@code -1} if the
+   * base name is free
+   */
+  @Query(value = """
+      SELECT coalesce(max(CASE WHEN p.name = :name THEN 0
+        ELSE CAST(substring(p.name FROM char_length(:name) + 2) AS INTEGER) END), -1)
+      FROM project p
+      WHERE p.name = :name
+        OR (p.name LIKE :pattern ESCAPE '\\'
+          AND char_length(p.name) <= char_length(:name) + 10
+          AND substring(p.name FROM char_length(:name) + 2) ~ '^[1-9][0-9]*$')
+      """, nativeQuery = true)
+  int findMaxNameSuffix(@Param("name") String name, @Param("pattern") String pattern);
+
   @Query(value = "SELECT p.* FROM project p JOIN project_user pu on p.id = pu.project_id JOIN users u on pu.user_id = u.id WHERE u.login = :login", nativeQuery = true)
   List<Project> findUserProjects(@Param("login") String login);
 
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.dao;
+
+import com.epam.reportportal.auth.entity.token.RevokedToken;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RevokedTokenRepository extends ReportPortalRepository<RevokedToken, Long> {
+
+  boolean existsByJti(String jti);
+
+  /**
+   * Incremental read of revocations, ordered by primary key.
+   *
+   * @param id ID of the last read revocation
+   * @return Next batch of revocations
+   */
+  List<RevokedToken> findTop1000ByIdGreaterThanOrderByIdAsc(Long id);
+
+  @Modifying
+  @Query("DELETE FROM RevokedToken t WHERE t.expiresAt < :date")
+  int deleteExpired(@Param("date") Instant date);
+}
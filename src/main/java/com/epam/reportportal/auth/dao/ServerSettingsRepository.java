@@ -17,16 +17,45 @@
 package com.epam.reportportal.auth.dao;
 
 import com.epam.reportportal.auth.entity.ServerSettings;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * @author Ivan Budaev
  */
 public interface ServerSettingsRepository extends ReportPortalRepository<ServerSettings, Long> {
 
-  @Query(value = "INSERT INTO server_settings (key, value) VALUES ('secret.key', gen_random_bytes(32)) RETURNING value", nativeQuery = true)
-  String generateSecret();
+  /**
+   * Generates the JWT secret unless another instance has already done it.
+   *
+   * @return Number of inserted rows
+   */
+  @Transactional
+  @Modifying
+  @Query(value = "INSERT INTO server_settings (key, value) VALUES ('secret.key', gen_random_bytes(32)) ON CONFLICT (key) DO NOTHING", nativeQuery = true)
+  int generateSecret();
+
+  @Transactional
+  @Modifying
+  @Query(value = "INSERT INTO server_settings (key, value) VALUES (:key, :value) ON CONFLICT (key) DO NOTHING", nativeQuery = true)
+  int insertIfAbsent(@Param("key") String key, @Param("value") String value);
+
+  /**
+   * Updates the setting only if it still has the expected value.
+   *
+   * @return Number of updated rows, {@code 0} if the value has been changed concurrently
+   */
+  @Transactional
+  @Modifying
+  @Query(value = "UPDATE server_settings SET value = :value WHERE key = :key AND value = :expected", nativeQuery = true)
+  int compareAndSet(@Param("key") String key, @Param("expected") String expected,
+      @Param("value") String value);
 
   Optional<ServerSettings> findByKey(String key);
+
+  List<ServerSettings> findAllByKeyStartingWith(String prefix);
 }
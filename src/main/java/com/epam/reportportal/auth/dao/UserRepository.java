@@ -17,18 +17,17 @@
 package com.epam.reportportal.auth.dao;
 
 import com.epam.reportportal.auth.entity.user.User;
-import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 /**
  * @author Ivan Budayeu
  */
-public interface UserRepository extends ReportPortalRepository<User, Long> {
+public interface UserRepository extends ReportPortalRepository<User, Long>,
+    UserRepositoryCustom {
 
   Optional<User> findByEmail(String email);
 
@@ -50,52 +49,37 @@ public interface UserRepository extends ReportPortalRepository<User, Long> {
   List<String> findByLoginRegex(String regex);
 
   /**
-   * Updates user's last login value
+   * Locks the next page of users of a type, which have not been synchronized with their directory
+   * since the deadline. Users are paged by the {@code synchronization_date} column, which a trigger
+   * keeps in line with the metadata, and by id, so every page is a range scan of the
+   * {@code users_type_synchronization_date_idx} index. Rows locked by another instance are skipped,
+   * so several instances can synchronize users concurrently.
    *
-   * @param username User
+   * @param type                     User type
+   * @param deadline                 Synchronization date in epoch milliseconds, users synchronized
+   *                                 before it are returned
+   * @param afterSynchronizationDate Synchronization date of the last user of the previous page,
+   *                                 {@code -1} for the first page
+   * @param afterId                  Id of the last user of the previous page
+   * @param pageSize                 Page size
+   * @return Users ordered by synchronization date and id
    */
-  @Modifying(clearAutomatically = true)
-  @Query(value = "UPDATE users SET metadata = jsonb_set(metadata, '{metadata,last_login}', to_jsonb(round(extract(EPOCH from clock_timestamp()) * 1000)), TRUE ) WHERE login = :username", nativeQuery = true)
-  void updateLastLoginDate(@Param("username") String username);
-
   @Query(value = """
           SELECT * FROM users
           WHERE
               type = :type
-              AND (
-                  (metadata #>> '{metadata,synchronizationDate}') IS NOT NULL
-                  AND TO_TIMESTAMP(
-                      (metadata #>> '{metadata,synchronizationDate}')::bigint / 1000
-                  ) < :deadline
-                  OR
-                  (metadata #>> '{metadata,synchronizationDate}') IS NULL
-              )
-          ORDER BY
-              CASE
-                  WHEN metadata #>> '{metadata,synchronizationDate}' IS NULL THEN 1
-                  ELSE 0
-              END,
-              (metadata #>> '{metadata,synchronizationDate}')::bigint DESC
-          OFFSET :offset ROWS FETCH NEXT :pageSize ROWS ONLY
+              AND synchronization_date < :deadline
+              AND (synchronization_date, id) > (:afterSynchronizationDate, :afterId)
+          ORDER BY synchronization_date, id
+          LIMIT :pageSize
+          FOR UPDATE SKIP LOCKED
       """,
-      countQuery = """
-              SELECT COUNT(*) FROM users
-              WHERE
-                  type = :type
-                  AND (
-                      (metadata #>> '{metadata,synchronizationDate}') IS NOT NULL
-                      AND TO_TIMESTAMP(
-                          (metadata #>> '{metadata,synchronizationDate}')::bigint / 1000
-                      ) < :deadline
-                      OR
-                      (metadata #>> '{metadata,synchronizationDate}') IS NULL
-                  )
-          """,
       nativeQuery = true)
   List<User> findNotSynchronizedUsers(
       @Param("type") String type,
-      @Param("deadline") LocalDateTime deadline,
-      @Param("offset") int offset,
+      @Param("deadline") long deadline,
+      @Param("afterSynchronizationDate") long afterSynchronizationDate,
+      @Param("afterId") long afterId,
       @Param("pageSize") int pageSize
   );
 
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.dao;
+
+import com.epam.reportportal.auth.entity.user.User;
+import java.util.Collection;
+import java.util.Map;
+
+public interface UserRepositoryCustom {
+
+  /**
+   * Updates last login date of several users with a single statement.
+   *
+   * @param lastLogins Last login date in epoch milliseconds by user login
+   * @return Number of updated users
+   */
+  int updateLastLoginDates(Map<String, Long> lastLogins);
+
+  /**
+   * Updates full names of several users synchronized with their directory and sets their
+   * synchronization date with a single statement.
+   *
+   * @param fullNames           Full name by user id, blank names keep the current ones
+   * @param synchronizationDate Synchronization date in epoch milliseconds
+   * @return Number of updated users
+   */
+  int updateSynchronizedUsers(Map<Long, String> fullNames, long synchronizationDate);
+
+  /**
+   * Inserts several users with a single statement. Users conflicting with existing ones by login or
+   * email are skipped.
+   *
+   * @param users Users to insert, ids are ignored
+   * @return Ids of inserted users by login
+   */
+  Map<String, Long> insertUsers(Collection<User> users);
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.dao;
+
+import com.epam.reportportal.auth.entity.Metadata;
+import com.epam.reportportal.auth.entity.user.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  @Transactional
+  public int updateLastLoginDates(Map<String, Long> lastLogins) {
+    if (lastLogins.isEmpty()) {
+      return 0;
+    }
+    StringJoiner values = new StringJoiner(", ");
+    for (int i = 0; i < lastLogins.size(); i++) {
+      values.add("(CAST(?" + (2 * i + 1) + " AS VARCHAR), CAST(?" + (2 * i + 2) + " AS BIGINT))");
+    }
+    Query query = entityManager.createNativeQuery("""
+        UPDATE users u
+        SET metadata = jsonb_set(u.metadata, '{metadata,last_login}', to_jsonb(v.last_login), TRUE)
+        FROM (VALUES %s) AS v(login, last_login)
+        WHERE u.login = v.login
+        """.formatted(values));
+    int position = 1;
+    for (Map.Entry<String, Long> lastLogin : lastLogins.entrySet()) {
+      query.setParameter(position++, lastLogin.getKey());
+      query.setParameter(position++, lastLogin.getValue());
+    }
+    return synchronizedWithUsers(query).executeUpdate();
+  }
+
+  @Override
+  @Transactional
+  public int updateSynchronizedUsers(Map<Long, String> fullNames, long synchronizationDate) {
+    if (fullNames.isEmpty()) {
+      return 0;
+    }
+    StringJoiner values = new StringJoiner(", ");
+    for (int i = 0; i < fullNames.size(); i++) {
+      values.add("(CAST(?" + (2 * i + 2) + " AS BIGINT), CAST(?" + (2 * i + 3) + " AS VARCHAR))");
+    }
+    Query query = entityManager.createNativeQuery("""
+        UPDATE users u
+        SET full_name = COALESCE(NULLIF(TRIM(v.full_name), ''), u.full_name),
+            metadata = jsonb_set(COALESCE(u.metadata, '{"metadata": {}}'),
+                '{metadata,synchronizationDate}', to_jsonb(CAST(?1 AS BIGINT)), TRUE)
+        FROM (VALUES %s) AS v(id, full_name)
+        WHERE u.id = v.id
+        """.formatted(values));
+    query.setParameter(1, synchronizationDate);
+    int position = 2;
+    for (Map.Entry<Long, String> fullName : fullNames.entrySet()) {
+      query.setParameter(position++, fullName.getKey());
+      query.setParameter(position++, fullName.getValue());
+    }
+    return synchronizedWithUsers(query).executeUpdate();
+  }
+
+  @Override
+  @Transactional
+  public Map<String, Long> insertUsers(Collection<User> users) {
+    if (users.isEmpty()) {
+      return Map.of();
+    }
+    StringJoiner values = new StringJoiner(", ");
+    for (int i = 0; i < users.size(); i++) {
+      int p = 8 * i;
+      values.add(("(CAST(?%d AS UUID), CAST(?%d AS VARCHAR), CAST(?%d AS VARCHAR), "
+          + "CAST(?%d AS VARCHAR), CAST(?%d AS USER_ROLE_ENUM), CAST(?%d AS VARCHAR), "
+          + "CAST(?%d AS BOOLEAN), CAST(?%d AS JSONB), FALSE, now(), now())")
+          .formatted(p + 1, p + 2, p + 3, p + 4, p + 5, p + 6, p + 7, p + 8));
+    }
+    Query query = entityManager.createNativeQuery("""
+        INSERT INTO users (uuid, login, email, full_name, role, type, active, metadata, expired,
+            created_at, updated_at)
+        VALUES %s
+        ON CONFLICT DO NOTHING
+        RETURNING id, login
+        """.formatted(values));
+    int position = 1;
+    for (User user : users) {
+      query.setParameter(position++, user.getUuid().toString());
+      query.setParameter(position++, user.getLogin());
+      query.setParameter(position++, user.getEmail());
+      query.setParameter(position++, user.getFullName());
+      query.setParameter(position++, user.getRole().name());
+      query.setParameter(position++, user.getUserType().name());
+      query.setParameter(position++, user.getActive());
+      query.setParameter(position++, toJson(user.getMetadata()));
+    }
+    Map<String, Long> ids = new HashMap<>();
+    for (Object row : synchronizedWithUsers(query).getResultList()) {
+      Object[] columns = (Object[]) row;
+      ids.put((String) columns[1], ((Number) columns[0]).longValue());
+    }
+    return ids;
+  }
+
+  /**
+   * Limits second-level cache invalidation of a native statement to the users region. Otherwise
+   * Hibernate evicts every entity and query cache region on each execution.
+   */
+  private static Query synchronizedWithUsers(Query query) {
+    query.unwrap(NativeQuery.class).addSynchronizedEntityClass(User.class);
+    return query;
+  }
+
+  private static String toJson(Metadata metadata) {
+    try {
+      return metadata.toJson(metadata);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Unable to serialize user metadata", e);
+    }
+  }
+}
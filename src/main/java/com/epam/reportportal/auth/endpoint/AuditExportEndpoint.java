@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.endpoint;
+
+import com.epam.reportportal.auth.export.AuditExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Streams users and auth integrations as newline delimited JSON for audit.
+ */
+@RestController
+@RequestMapping("/settings/export")
+@Tag(name = "audit-export-endpoint", description = "Audit Export Endpoint")
+public class AuditExportEndpoint {
+
+  private final AuditExportService auditExportService;
+
+  public AuditExportEndpoint(AuditExportService auditExportService) {
+    this.auditExportService = auditExportService;
+  }
+
+  @GetMapping(value = "/users", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(summary = "Exports users with their organization and project memberships")
+  public ResponseEntity<StreamingResponseBody> exportUsers() {
+    return attachment("users.ndjson", auditExportService::exportUsers);
+  }
+
+  @GetMapping(value = "/integrations", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(summary = "Exports auth integrations with masked secrets")
+  public ResponseEntity<StreamingResponseBody> exportIntegrations() {
+    return attachment("integrations.ndjson", auditExportService::exportIntegrations);
+  }
+
+  private static ResponseEntity<StreamingResponseBody> attachment(String filename,
+      StreamingResponseBody body) {
+    return ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(filename).build().toString())
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(body);
+  }
+}
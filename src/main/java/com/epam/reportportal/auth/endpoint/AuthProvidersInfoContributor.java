@@ -20,28 +20,37 @@ import static org.springframework.web.servlet.support.ServletUriComponentsBuilde
 
 import com.epam.reportportal.auth.dao.IntegrationRepository;
 import com.epam.reportportal.auth.dao.IntegrationTypeRepository;
-import com.epam.reportportal.auth.dao.OAuthRegistrationRepository;
 import com.epam.reportportal.auth.entity.integration.Integration;
-import com.epam.reportportal.auth.entity.integration.IntegrationType;
-import com.epam.reportportal.auth.entity.oauth.OAuthRegistration;
+import com.epam.reportportal.auth.event.SamlProvidersReloadEvent;
 import com.epam.reportportal.auth.integration.AuthIntegrationType;
 import com.epam.reportportal.auth.integration.parameter.SamlParameter;
 import com.epam.reportportal.auth.oauth.OAuthProvider;
-import com.google.common.collect.Maps;
+import com.epam.reportportal.auth.store.MutableClientRegistrationRepository;
+import com.epam.reportportal.auth.store.MutableClientRegistrationRepository.Snapshot;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.SortedMap;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.info.Info;
 import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.util.CollectionUtils;
-import org.springframework.web.util.UriUtils;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Shows list of supported authentication providers.
+ * <p>
+ * The providers are kept in a precomputed snapshot, so {@code /info} requests do not touch the
+ * database. The snapshot is rebuilt when OAuth registrations change, after SAML providers are
+ * reloaded and periodically, to pick up SAML changes made by other instances.
  *
  * @author <a href="mailto:andrei_varabyeu@epam.com">Andrei Varabyeu</a>
  */
@@ -55,17 +64,20 @@ public class AuthProvidersInfoContributor implements InfoContributor {
   @Value("${rp.auth.saml.prefix}")
   private String samlPrefix;
 
-  private final OAuthRegistrationRepository oAuthRegistrationRepository;
+  private final MutableClientRegistrationRepository clientRegistrationRepository;
   private final IntegrationRepository integrationRepository;
   private final IntegrationTypeRepository integrationTypeRepository;
   private final Map<String, OAuthProvider> providersMap;
 
+  private volatile AuthProviders authProviders;
+
   @Autowired
-  public AuthProvidersInfoContributor(OAuthRegistrationRepository oAuthRegistrationRepository,
+  public AuthProvidersInfoContributor(
+      MutableClientRegistrationRepository clientRegistrationRepository,
       IntegrationRepository integrationRepository,
       IntegrationTypeRepository integrationTypeRepository,
       Map<String, OAuthProvider> providersMap) {
-    this.oAuthRegistrationRepository = oAuthRegistrationRepository;
+    this.clientRegistrationRepository = clientRegistrationRepository;
     this.integrationRepository = integrationRepository;
     this.integrationTypeRepository = integrationTypeRepository;
     this.providersMap = providersMap;
@@ -73,45 +85,96 @@ public class AuthProvidersInfoContributor implements InfoContributor {
 
   @Override
   public void contribute(Info.Builder builder) {
-    final List<OAuthRegistration> oauth2Details = oAuthRegistrationRepository.findAll();
+    AuthProviders snapshot = getAuthProviders();
+    String authBasePath = getAuthBasePath();
 
-    final Map<String, AuthProviderInfo> providers = providersMap.values()
+    final Map<String, AuthProviderInfo> providers = snapshot.oauthProviders()
         .stream()
-        .filter(p -> !p.isConfigDynamic() || oauth2Details.stream()
-            .anyMatch(it -> it.getId().equalsIgnoreCase(p.getName())))
         .collect(Collectors.toMap(OAuthProvider::getName,
-            p -> new OAuthProviderInfo(p.getButton(), p.buildPath(getAuthBasePath()))
+            p -> new OAuthProviderInfo(p.getButton(), p.buildPath(authBasePath))
         ));
 
-    Optional<IntegrationType> samlIntegrationType = integrationTypeRepository.findByName(
-        AuthIntegrationType.SAML.getName());
-
-    Map<String, String> samlProviders = Maps.newHashMap();
-
-    if (samlIntegrationType.isPresent()) {
-      samlProviders = integrationRepository.findAllGlobalByType(samlIntegrationType.get())
+    if (!snapshot.samlProviders().isEmpty()) {
+      Map<String, String> samlProviders = snapshot.samlProviders()
+          .entrySet()
           .stream()
-          .filter(Integration::isEnabled)
-          .filter(it -> SamlParameter.IDP_URL.getParameter(it).isPresent())
-          .collect(Collectors.toMap(
-              Integration::getName,
+          .collect(Collectors.toMap(Map.Entry::getKey,
               it -> fromCurrentContextPath().path(String.format("/saml2/authenticate/%s",
-                  SamlParameter.IDP_NAME.getParameter(it).get()
-              )).build().getPath()
+                  it.getValue())).build().getPath()
           ));
-    }
-
-    if (!CollectionUtils.isEmpty(samlProviders)) {
       providers.put("samlProviders", new SamlProviderInfo(SAML_BUTTON, samlProviders));
     }
 
     builder.withDetail("authExtensions", providers);
   }
 
+  /**
+   * @return Hash of the contributed providers, it changes whenever the contribution does
+   */
+  public String getVersion() {
+    return getAuthProviders().version();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onSamlProvidersReload(SamlProvidersReloadEvent event) {
+    authProviders = null;
+  }
+
+  @Scheduled(fixedDelayString = "${rp.info.auth-providers.refresh-interval}")
+  public void invalidate() {
+    authProviders = null;
+  }
+
+  private AuthProviders getAuthProviders() {
+    Snapshot registrations = clientRegistrationRepository.getSnapshot();
+    AuthProviders snapshot = authProviders;
+    if (snapshot == null || snapshot.registrations() != registrations) {
+      snapshot = loadAuthProviders(registrations);
+      authProviders = snapshot;
+    }
+    return snapshot;
+  }
+
+  private AuthProviders loadAuthProviders(Snapshot registrations) {
+    Collection<String> registrationIds = registrations.resources().keySet();
+    List<OAuthProvider> oauthProviders = providersMap.values()
+        .stream()
+        .filter(p -> !p.isConfigDynamic() || registrationIds.stream()
+            .anyMatch(id -> id.equalsIgnoreCase(p.getName())))
+        .sorted(Comparator.comparing(OAuthProvider::getName))
+        .toList();
+
+    SortedMap<String, String> samlProviders = integrationTypeRepository.findByName(
+            AuthIntegrationType.SAML.getName())
+        .map(type -> integrationRepository.findAllGlobalByType(type)
+            .stream()
+            .filter(Integration::isEnabled)
+            .filter(it -> SamlParameter.IDP_URL.getParameter(it).isPresent())
+            .collect(ImmutableSortedMap.toImmutableSortedMap(String::compareTo,
+                Integration::getName,
+                it -> SamlParameter.IDP_NAME.getParameter(it).get())))
+        .orElse(ImmutableSortedMap.of());
+
+    Hasher hasher = Hashing.sha256().newHasher();
+    oauthProviders.forEach(p -> hasher.putString(p.getName(), StandardCharsets.UTF_8)
+        .putByte((byte) 0));
+    samlProviders.forEach((name, idp) -> hasher.putString(name, StandardCharsets.UTF_8)
+        .putByte((byte) 0)
+        .putString(idp, StandardCharsets.UTF_8)
+        .putByte((byte) 0));
+    return new AuthProviders(registrations, oauthProviders, samlProviders,
+        hasher.hash().toString());
+  }
+
   private String getAuthBasePath() {
     return fromCurrentContextPath().path(SSO_LOGIN_PATH).build().getPath();
   }
 
+  private record AuthProviders(Snapshot registrations, List<OAuthProvider> oauthProviders,
+                               SortedMap<String, String> samlProviders, String version) {
+
+  }
+
   public abstract static class AuthProviderInfo {
 
     private String button;
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.endpoint;
+
+import com.google.common.hash.Hashing;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Answers conditional {@code /info} requests with {@code 304 Not Modified} before the info
+ * endpoint is invoked. The strong ETag is derived from the authentication providers snapshot, the
+ * build version and the context path the links are built for; the rest of the info payload is
+ * static.
+ */
+@Component
+public class InfoEtagFilter extends OncePerRequestFilter {
+
+  private static final String INFO_PATH = "/info";
+
+  private final AuthProvidersInfoContributor authProvidersInfoContributor;
+  private final String buildVersion;
+  private final String cacheControl;
+
+  public InfoEtagFilter(AuthProvidersInfoContributor authProvidersInfoContributor,
+      @Value("${info.build.version:}") String buildVersion,
+      @Value("${rp.info.cache-max-age}") long cacheMaxAge) {
+    this.authProvidersInfoContributor = authProvidersInfoContributor;
+    this.buildVersion = buildVersion;
+    this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(cacheMaxAge)).cachePublic()
+        .getHeaderValue();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(@Nonnull HttpServletRequest request) {
+    return !HttpMethod.GET.matches(request.getMethod())
+        || !INFO_PATH.equals(request.getRequestURI().substring(request.getContextPath().length()));
+  }
+
+  @Override
+  protected void doFilterInternal(@Nonnull HttpServletRequest request,
+      @Nonnull HttpServletResponse response, @Nonnull FilterChain filterChain)
+      throws ServletException, IOException {
+    String etag = "\"" + Hashing.sha256().newHasher()
+        .putString(authProvidersInfoContributor.getVersion(), StandardCharsets.UTF_8)
+        .putString(buildVersion, StandardCharsets.UTF_8)
+        .putString(request.getContextPath(), StandardCharsets.UTF_8)
+        .hash() + "\"";
+    response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+    if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+      return;
+    }
+    filterChain.doFilter(request, response);
+  }
+}
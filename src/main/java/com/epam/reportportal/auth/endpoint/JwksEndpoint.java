@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.endpoint;
+
+import com.epam.reportportal.auth.OperationCompletionRS;
+import com.epam.reportportal.auth.config.jwt.JwtKeyManager;
+import com.google.common.hash.Hashing;
+import com.nimbusds.jose.jwk.JWKSet;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Publishes public keys of access token signatures, so token consumers can verify tokens locally.
+ * Responses carry a strong ETag of the key set, conditional requests are answered with
+ * {@code 304 Not Modified}.
+ */
+@RestController
+@Tag(name = "jwks-endpoint", description = "JWKS Endpoint")
+public class JwksEndpoint {
+
+  private final JwtKeyManager jwtKeyManager;
+  private final CacheControl cacheControl;
+
+  private volatile PublishedKeys publishedKeys;
+
+  public JwksEndpoint(JwtKeyManager jwtKeyManager,
+      @Value("${rp.jwt.jwks.cache-max-age}") long cacheMaxAge) {
+    this.jwtKeyManager = jwtKeyManager;
+    this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(cacheMaxAge)).cachePublic();
+  }
+
+  @GetMapping(value = "/sso/oauth/jwks", produces = MediaType.APPLICATION_JSON_VALUE)
+  @Operation(summary = "Returns public keys used to sign access tokens")
+  public ResponseEntity<String> getKeys() {
+    PublishedKeys keys = getPublishedKeys();
+    return ResponseEntity.ok()
+        .cacheControl(cacheControl)
+        .eTag(keys.etag())
+        .body(keys.body());
+  }
+
+  @PostMapping("/settings/jwks/rotate")
+  @ResponseStatus(HttpStatus.OK)
+  @Operation(summary = "Generates a new access token signing key")
+  public OperationCompletionRS rotateKeys() {
+    String keyId = jwtKeyManager.rotate();
+    return new OperationCompletionRS("Signing key '" + keyId + "' has been generated");
+  }
+
+  private PublishedKeys getPublishedKeys() {
+    JWKSet jwkSet = jwtKeyManager.getJwkSet();
+    PublishedKeys keys = publishedKeys;
+    if (keys == null || keys.source() != jwkSet) {
+      String body = jwkSet.toPublicJWKSet().toString();
+      String etag = Hashing.sha256().hashString(body, StandardCharsets.UTF_8).toString();
+      keys = new PublishedKeys(jwkSet, body, etag);
+      publishedKeys = keys;
+    }
+    return keys;
+  }
+
+  private record PublishedKeys(JWKSet source, String body, String etag) {
+
+  }
+}
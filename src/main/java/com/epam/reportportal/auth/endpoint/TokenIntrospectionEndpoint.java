@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.endpoint;
+
+import com.epam.reportportal.auth.config.jwt.TokenIntrospector;
+import com.epam.reportportal.auth.config.jwt.TokenRevocationRegistry;
+import com.epam.reportportal.auth.entity.user.UserRole;
+import com.epam.reportportal.auth.rules.exception.ErrorType;
+import com.epam.reportportal.auth.rules.exception.ReportPortalException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Token introspection (RFC 7662) and revocation (RFC 7009) endpoints.
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "token-endpoint", description = "Token Introspection Endpoint")
+public class TokenIntrospectionEndpoint {
+
+  private final TokenIntrospector tokenIntrospector;
+
+  private final TokenRevocationRegistry tokenRevocationRegistry;
+
+  @PostMapping(value = "/sso/oauth/check_token", produces = MediaType.APPLICATION_JSON_VALUE)
+  @Operation(summary = "Returns state and claims of the access token")
+  public Map<String, Object> introspect(@RequestParam("token") String token) {
+    return tokenIntrospector.introspect(token);
+  }
+
+  @PostMapping("/sso/oauth/revoke")
+  @ResponseStatus(HttpStatus.OK)
+  @Operation(summary = "Revokes the access token")
+  public void revoke(@RequestParam("token") String token, Authentication authentication) {
+    tokenIntrospector.decode(token).ifPresent(jwt -> {
+      boolean isAdmin = authentication.getAuthorities().stream()
+          .map(GrantedAuthority::getAuthority)
+          .anyMatch(UserRole.ADMINISTRATOR.getAuthority()::equals);
+      if (!isAdmin && !authentication.getName().equals(jwt.getSubject())) {
+        throw new ReportPortalException(ErrorType.ACCESS_DENIED,
+            "Only own tokens can be revoked");
+      }
+      tokenRevocationRegistry.revoke(jwt);
+    });
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.endpoint;
+
+import com.epam.reportportal.auth.integration.provisioning.ProvisionedUsersReader;
+import com.epam.reportportal.auth.integration.provisioning.UserProvisioningService;
+import com.epam.reportportal.auth.model.provisioning.ProvisionUsersRS;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Bulk provisioning of directory users, e.g. for onboarding of an organization. The request body
+ * is streamed, every row gets its own result.
+ */
+@RestController
+@RequestMapping("/settings/users")
+@Tag(name = "user-provisioning-endpoint", description = "User Provisioning Endpoint")
+public class UserProvisioningEndpoint {
+
+  static final String TEXT_CSV_VALUE = "text/csv";
+
+  private final UserProvisioningService userProvisioningService;
+
+  private final ObjectMapper objectMapper;
+
+  public UserProvisioningEndpoint(UserProvisioningService userProvisioningService,
+      ObjectMapper objectMapper) {
+    this.userProvisioningService = userProvisioningService;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Creates users of directories given as newline delimited JSON objects and updates full names of
+   * existing ones.
+   *
+   * @param body Users, a JSON object per line
+   * @return Results of rows
+   * @throws IOException if the body cannot be read
+   */
+  @PostMapping(value = "/provision", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  @ResponseStatus(HttpStatus.OK)
+  @Operation(summary = "Provisions users of directories from NDJSON")
+  public ProvisionUsersRS provisionNdjson(InputStream body) throws IOException {
+    return userProvisioningService.provision(
+        ProvisionedUsersReader.fromNdjson(body, objectMapper));
+  }
+
+  /**
+   * Creates users of directories given as CSV with a header row and updates full names of existing
+   * ones.
+   *
+   * @param body Users, columns {@code email}, {@code fullName}, {@code type} and {@code role}
+   * @return Results of rows
+   */
+  @PostMapping(value = "/provision", consumes = TEXT_CSV_VALUE)
+  @ResponseStatus(HttpStatus.OK)
+  @Operation(summary = "Provisions users of directories from CSV")
+  public ProvisionUsersRS provisionCsv(InputStream body) {
+    return userProvisioningService.provision(ProvisionedUsersReader.fromCsv(body));
+  }
+}
@@ -18,6 +18,7 @@ package com.epam.reportportal.auth.entity.attribute;
 
 import java.io.Serializable;
 import java.util.Objects;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -26,6 +27,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * @author Andrey Plisunov
@@ -33,6 +36,8 @@ import lombok.Setter;
 @Setter
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @Table(name = "attribute")
 public class Attribute implements Serializable {
 
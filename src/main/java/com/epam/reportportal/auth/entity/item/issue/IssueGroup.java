@@ -17,6 +17,7 @@
 package com.epam.reportportal.auth.entity.item.issue;
 
 import com.epam.reportportal.auth.entity.enums.TestItemIssueGroup;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -29,6 +30,8 @@ import java.io.Serializable;
 import java.util.Objects;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcType;
 import org.hibernate.dialect.PostgreSQLEnumJdbcType;
 
@@ -38,6 +41,8 @@ import org.hibernate.dialect.PostgreSQLEnumJdbcType;
 @Setter
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @Table(name = "issue_group", schema = "public")
 public class IssueGroup implements Serializable {
 
@@ -16,16 +16,26 @@
 
 package com.epam.reportportal.auth.event;
 
+import com.epam.reportportal.auth.dao.OutboxEventRepository;
+import com.epam.reportportal.auth.entity.outbox.OutboxEvent;
 import com.epam.reportportal.auth.event.domain.AbstractEvent;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.nio.charset.StandardCharsets;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
- * Publishes domain events to RabbitMQ after transaction commit. Events are published as-is (no
- * conversion) to the domain.events exchange.
+ * Stores domain events in the outbox table within the transaction that produced them. Events are
+ * relayed to the domain.events exchange of RabbitMQ by {@link DomainEventRelay}, so the broker
+ * availability does not affect the transaction and events are not lost while the broker is down.
  *
  */
 @Slf4j
@@ -33,21 +43,44 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class DomainEventPublisher {
 
-  private static final String DOMAIN_EVENTS_EXCHANGE = "domain.events";
+  static final String DOMAIN_EVENTS_EXCHANGE = "domain.events";
 
-  private final RabbitTemplate rabbitTemplate;
+  private static final String STORE_OBSERVATION = "rp.domain.event.store";
+
+  private static final ClassValue<String> ROUTING_KEYS = new ClassValue<>() {
+    @Override
+    protected String computeValue(Class<?> type) {
+      return "domain." + type.getSimpleName();
+    }
+  };
+
+  private final MessageConverter messageConverter;
+
+  private final OutboxEventRepository outboxEventRepository;
+
+  private final ObservationRegistry observationRegistry;
 
   /**
-   * Listens to domain events and publishes them to RabbitMQ after transaction commit. Routing key
+   * Listens to domain events and stores them to the outbox before transaction commit. Routing key
    * pattern: domain.{EventClassName}
    *
    * @param event The domain event to publish
    */
-  @TransactionalEventListener
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void onDomainEvent(AbstractEvent<?> event) {
-    log.debug("Publishing domain event to exchange '{}', event:'{}'", DOMAIN_EVENTS_EXCHANGE,
+    log.debug("Storing domain event for exchange '{}', event:'{}'", DOMAIN_EVENTS_EXCHANGE,
         event.toString());
-    rabbitTemplate.convertAndSend(DOMAIN_EVENTS_EXCHANGE, generateRoutingKey(event), event);
+    String routingKey = generateRoutingKey(event);
+    Observation.createNotStarted(STORE_OBSERVATION, observationRegistry)
+        .contextualName("store " + routingKey)
+        .lowCardinalityKeyValue("routing.key", routingKey)
+        .observe(() -> {
+          Message message = messageConverter.toMessage(event, new MessageProperties());
+          outboxEventRepository.save(new OutboxEvent(DOMAIN_EVENTS_EXCHANGE, routingKey,
+              message.getMessageProperties()
+                  .getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME),
+              new String(message.getBody(), StandardCharsets.UTF_8)));
+        });
   }
 
   /**
@@ -57,6 +90,6 @@ public class DomainEventPublisher {
    * @return Routing key
    */
   private String generateRoutingKey(AbstractEvent<?> event) {
-    return String.format("domain.%s", event.getClass().getSimpleName());
+    return ROUTING_KEYS.get(event.getClass());
   }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.event;
+
+import com.epam.reportportal.auth.config.rabbit.AmqpPublishMetrics;
+import com.epam.reportportal.auth.dao.OutboxEventRepository;
+import com.epam.reportportal.auth.entity.outbox.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Relays domain events from the outbox table to RabbitMQ. Events are sent in batches and removed
+ * from the outbox only after the broker has confirmed the whole batch, so every event is delivered
+ * at least once. A failed batch is retried with exponential backoff.
+ * <p>
+ * A batch is claimed in a short transaction, which already schedules its retry, so no row lock is
+ * held while waiting for the broker. Confirmed events are removed in a second transaction. Events
+ * of a relay that failed or died are picked up again once their retry is due.
+ */
+@Slf4j
+@Component
+public class DomainEventRelay {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final RabbitTemplate rabbitTemplate;
+  private final AmqpPublishMetrics amqpPublishMetrics;
+  private final int batchSize;
+  private final long confirmTimeout;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+
+  private final Timer lag;
+  private final Counter relayed;
+  private final Counter failed;
+
+  public DomainEventRelay(OutboxEventRepository outboxEventRepository,
+      PlatformTransactionManager transactionManager, RabbitTemplate rabbitTemplate, AmqpPublishMetrics amqpPublishMetrics,
+      MeterRegistry meterRegistry,
+      @Value("${rp.amqp.outbox.batch-size}") int batchSize,
+      @Value("${rp.amqp.outbox.confirm-timeout}") long confirmTimeout,
+      @Value("${rp.amqp.outbox.initial-backoff}") long initialBackoff,
+      @Value("${rp.amqp.outbox.max-backoff}") long maxBackoff) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.rabbitTemplate = rabbitTemplate;
+    this.amqpPublishMetrics = amqpPublishMetrics;
+    this.batchSize = batchSize;
+    this.confirmTimeout = confirmTimeout;
+    this.initialBackoff = Duration.ofMillis(initialBackoff);
+    this.maxBackoff = Duration.ofMillis(maxBackoff);
+    this.lag = Timer.builder("rp.domain.events.relay.lag")
+        .description("Time between storing a domain event and its delivery to the broker")
+        .register(meterRegistry);
+    this.relayed = Counter.builder("rp.domain.events.relayed")
+        .tag("outcome", "success")
+        .register(meterRegistry);
+    this.failed = Counter.builder("rp.domain.events.relayed")
+        .tag("outcome", "failure")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Sends the next batch of due events and waits for publisher confirms.
+   */
+  @Scheduled(fixedDelayString = "${rp.amqp.outbox.relay-interval}")
+  public void relay() {
+    List<OutboxEvent> batch = transactionTemplate.execute(status -> claimNextBatch());
+    if (batch == null || batch.isEmpty()) {
+      return;
+    }
+    long start = System.nanoTime();
+    try {
+      rabbitTemplate.invoke(operations -> {
+        batch.forEach(event -> operations.send(event.getExchange(), event.getRoutingKey(),
+            toMessage(event)));
+        operations.waitForConfirmsOrDie(confirmTimeout);
+        return null;
+      });
+    } catch (AmqpException e) {
+      amqpPublishMetrics.recordPublish(Duration.ofNanos(System.nanoTime() - start), false);
+      failed.increment(batch.size());
+      log.warn("Unable to relay {} domain events, will be retried: {}", batch.size(),
+          e.getMessage());
+      return;
+    }
+    amqpPublishMetrics.recordPublish(Duration.ofNanos(System.nanoTime() - start), true);
+    Instant now = Instant.now();
+    batch.forEach(event -> lag.record(Duration.between(event.getCreatedAt(), now)));
+    relayed.increment(batch.size());
+    transactionTemplate.executeWithoutResult(
+        status -> outboxEventRepository.deleteAllInBatch(batch));
+  }
+
+  /**
+   * Locks the next batch and moves it out of reach of other relays until the confirm timeout and
+   * the retry backoff have passed. The changes are committed before the batch is published.
+   */
+  private List<OutboxEvent> claimNextBatch() {
+    Instant now = Instant.now();
+    List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(now, batchSize);
+    batch.forEach(event -> {
+      event.setAttempts(event.getAttempts() + 1);
+      event.setNextAttemptAt(now.plusMillis(confirmTimeout).plus(backoff(event.getAttempts())));
+    });
+    return batch;
+  }
+
+  Duration backoff(int attempts) {
+    long delay = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+    long capped = Math.min(delay, maxBackoff.toMillis());
+    return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+  }
+
+  private static Message toMessage(OutboxEvent event) {
+    MessageProperties properties = new MessageProperties();
+    properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+    properties.setContentEncoding(StandardCharsets.UTF_8.name());
+    properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getTypeId());
+    properties.setMessageId(String.valueOf(event.getId()));
+    return new Message(event.getPayload().getBytes(StandardCharsets.UTF_8), properties);
+  }
+}
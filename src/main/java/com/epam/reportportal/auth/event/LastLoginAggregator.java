@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.event;
+
+import com.epam.reportportal.auth.dao.UserRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-behind buffer of users' last login dates. Logins are coalesced per user in memory and
+ * written with batched updates, so a login does not lock and rewrite the user row.
+ */
+@Slf4j
+@Component
+public class LastLoginAggregator {
+
+  private final Map<String, Long> pending = new ConcurrentHashMap<>();
+
+  private final UserRepository userRepository;
+  private final int batchSize;
+  private final int maxBatchesPerFlush;
+
+  public LastLoginAggregator(UserRepository userRepository,
+      @Value("${rp.auth.last-login.batch-size}") int batchSize,
+      @Value("${rp.auth.last-login.max-batches-per-flush}") int maxBatchesPerFlush) {
+    this.userRepository = userRepository;
+    this.batchSize = batchSize;
+    this.maxBatchesPerFlush = maxBatchesPerFlush;
+  }
+
+  /**
+   * Registers a login of the user at the current time.
+   *
+   * @param username User login
+   */
+  public void record(String username) {
+    pending.merge(username, System.currentTimeMillis(), Math::max);
+  }
+
+  /**
+   * Writes buffered logins, at most {@code max-batches-per-flush} batches at once. The rest is left
+   * for the next flush.
+   */
+  @Scheduled(fixedDelayString = "${rp.auth.last-login.flush-interval}")
+  public void flush() {
+    flush(maxBatchesPerFlush);
+  }
+
+  /**
+   * Writes all buffered logins on shutdown.
+   */
+  @PreDestroy
+  public void drain() {
+    flush(Integer.MAX_VALUE);
+  }
+
+  private synchronized void flush(int maxBatches) {
+    for (int i = 0; i < maxBatches && !pending.isEmpty(); i++) {
+      Map<String, Long> batch = new HashMap<>();
+      Iterator<Map.Entry<String, Long>> iterator = pending.entrySet().iterator();
+      while (iterator.hasNext() && batch.size() < batchSize) {
+        Map.Entry<String, Long> entry = iterator.next();
+        if (pending.remove(entry.getKey(), entry.getValue())) {
+          batch.put(entry.getKey(), entry.getValue());
+        }
+      }
+      try {
+        userRepository.updateLastLoginDates(batch);
+      } catch (RuntimeException e) {
+        batch.forEach((username, date) -> pending.merge(username, date, Math::max));
+        log.error("Unable to update last login date of {} users", batch.size(), e);
+        return;
+      }
+    }
+  }
+}
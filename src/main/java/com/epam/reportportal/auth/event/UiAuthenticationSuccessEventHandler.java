@@ -32,7 +32,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.saml2.provider.service.authentication.Saml2Authentication;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Updates Last Login field in database User entity.
@@ -46,15 +45,18 @@ public class UiAuthenticationSuccessEventHandler {
 
   private PersonalProjectService personalProjectService;
 
+  private LastLoginAggregator lastLoginAggregator;
+
   /**
    * Event handler for successful UI authentication events. Updates the last login date for the user
    * and generates a personal project if the user has no projects.
    */
   @Autowired
   public UiAuthenticationSuccessEventHandler(UserRepository userRepository,
-      PersonalProjectService personalProjectService) {
+      PersonalProjectService personalProjectService, LastLoginAggregator lastLoginAggregator) {
     this.userRepository = userRepository;
     this.personalProjectService = personalProjectService;
+    this.lastLoginAggregator = lastLoginAggregator;
   }
 
   /**
@@ -65,11 +67,10 @@ public class UiAuthenticationSuccessEventHandler {
    * @param event the UI user signed in event
    */
   @EventListener
-  @Transactional
   public void onApplicationEvent(UiUserSignedInEvent event) {
     String username = event.getAuthentication().getName();
 
-    userRepository.updateLastLoginDate(username);
+    lastLoginAggregator.record(username);
 
     /* TODO: Do not generate personal project for now. Waiting for requirements
     if (MapUtils.isEmpty(acquireUser(event.getAuthentication()).getOrganizationDetails())) {
@@ -19,6 +19,7 @@ package com.epam.reportportal.auth.event;
 import com.epam.reportportal.auth.entity.user.User;
 import com.epam.reportportal.auth.event.domain.UserCreatedEvent;
 import com.epam.reportportal.auth.model.activity.UserActivityResource;
+import java.util.Collection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -26,7 +27,7 @@ import org.springframework.stereotype.Component;
 
 /**
  * Publishes domain events using Spring's ApplicationEventPublisher. Events will be automatically
- * forwarded to RabbitMQ by DomainEventPublisher after transaction commit.
+ * stored to the outbox by DomainEventPublisher and relayed to RabbitMQ after transaction commit.
  *
  * @author <a href="mailto:reingold_shekhtel@epam.com">Reingold Shekhtel</a>
  */
@@ -39,7 +40,7 @@ public class UserEventPublisher {
 
   /**
    * Publishes {@link UserCreatedEvent} when user is created. The event will be automatically
-   * forwarded to RabbitMQ by DomainEventPublisher after transaction commit.
+   * stored to the outbox by DomainEventPublisher and relayed to RabbitMQ after transaction commit.
    *
    * @param user Created user.
    */
@@ -52,4 +53,14 @@ public class UserEventPublisher {
     eventPublisher.publishEvent(event);
     log.debug("Published domain event: {}", event);
   }
+
+  /**
+   * Publishes {@link UserCreatedEvent} for every user of a batch. The events are stored to the
+   * outbox within the transaction of the batch and relayed to RabbitMQ in batches.
+   *
+   * @param users Created users.
+   */
+  public void publishOnUsersCreated(Collection<User> users) {
+    users.forEach(this::publishOnUserCreated);
+  }
 }
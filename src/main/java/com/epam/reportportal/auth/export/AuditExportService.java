@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.export;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Exports users and auth integrations for audit as newline delimited JSON.
+ * <p>
+ * Every JSON object is built by the database, rows are fetched from a server-side cursor in chunks
+ * of the configured size and written to the output as they arrive, so memory does not depend on
+ * the number of rows. Writes block while the client is behind, which pauses the cursor. Parameters
+ * of integrations, which names look like secrets, are masked, OAuth client secrets are not
+ * exported. Exports read from the replica pool.
+ */
+@Service
+public class AuditExportService {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final String SECRET_PATTERN = "(password|secret|token|private|credential)";
+
+  private static final String USERS_QUERY = """
+      SELECT json_build_object(
+          'id', u.id,
+          'uuid', u.uuid,
+          'login', u.login,
+          'email', u.email,
+          'fullName', u.full_name,
+          'type', u.type,
+          'role', u.role,
+          'active', u.active,
+          'expired', u.expired,
+          'createdAt', u.created_at,
+          'updatedAt', u.updated_at,
+          'lastLogin', u.metadata #> '{metadata,last_login}',
+          'synchronizationDate', u.metadata #> '{metadata,synchronizationDate}',
+          'organizations', COALESCE((
+              SELECT json_agg(json_build_object(
+                  'id', o.id, 'name', o.name, 'role', ou.organization_role) ORDER BY o.id)
+              FROM organization_user ou JOIN organization o ON o.id = ou.organization_id
+              WHERE ou.user_id = u.id), '[]'),
+          'projects', COALESCE((
+              SELECT json_agg(json_build_object(
+                  'id', p.id, 'name', p.name, 'role', pu.project_role) ORDER BY p.id)
+              FROM project_user pu JOIN project p ON p.id = pu.project_id
+              WHERE pu.user_id = u.id), '[]')
+      )::text
+      FROM users u
+      ORDER BY u.id
+      """;
+
+  private static final String INTEGRATIONS_QUERY = """
+      SELECT json_build_object(
+          'id', i.id,
+          'name', i.name,
+          'type', it.name,
+          'enabled', i.enabled,
+          'creator', i.creator,
+          'creationDate', i.creation_date,
+          'params', (
+              SELECT jsonb_object_agg(param.key, CASE WHEN param.key ~* '%s'
+                  THEN to_jsonb('*****'::text) ELSE param.value END)
+              FROM jsonb_each(i.params -> 'params') param)
+      )::text
+      FROM integration i JOIN integration_type it ON it.id = i.type
+      WHERE it.group_type = 'AUTH'
+      ORDER BY i.id
+      """.formatted(SECRET_PATTERN);
+
+  private static final String OAUTH_REGISTRATIONS_QUERY = """
+      SELECT json_build_object(
+          'id', r.id,
+          'type', 'oauth',
+          'clientId', r.client_id,
+          'clientName', r.client_name,
+          'clientAuthMethod', r.client_auth_method,
+          'authGrantType', r.auth_grant_type,
+          'authorizationUri', r.authorization_uri,
+          'tokenUri', r.token_uri,
+          'userInfoEndpointUri', r.user_info_endpoint_uri,
+          'scopes', COALESCE((
+              SELECT json_agg(s.scope ORDER BY s.scope)
+              FROM oauth_registration_scope s
+              WHERE s.oauth_registration_fk = r.id), '[]'),
+          'restrictions', COALESCE((
+              SELECT json_agg(json_build_object('type', rs.type, 'value', rs.value)
+                  ORDER BY rs.type, rs.value)
+              FROM oauth_registration_restriction rs
+              WHERE rs.oauth_registration_fk = r.id), '[]')
+      )::text
+      FROM oauth_registration r
+      ORDER BY r.id
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final Counter users;
+  private final Counter integrations;
+
+  public AuditExportService(@Qualifier("readDataSource") DataSource dataSource,
+      @Qualifier("replicaTransactionManager") PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry, @Value("${rp.export.fetch-size}") int fetchSize) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.jdbcTemplate.setFetchSize(fetchSize);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.users = counter(meterRegistry, "users");
+    this.integrations = counter(meterRegistry, "integrations");
+  }
+
+  /**
+   * Writes users with their organization and project memberships, a JSON object per line.
+   *
+   * @param output Output
+   * @throws IOException if the output cannot be written
+   */
+  public void exportUsers(OutputStream output) throws IOException {
+    export(List.of(USERS_QUERY), output, users);
+  }
+
+  /**
+   * Writes auth integrations and OAuth registrations, a JSON object per line.
+   *
+   * @param output Output
+   * @throws IOException if the output cannot be written
+   */
+  public void exportIntegrations(OutputStream output) throws IOException {
+    export(List.of(INTEGRATIONS_QUERY, OAUTH_REGISTRATIONS_QUERY), output, integrations);
+  }
+
+  private void export(List<String> queries, OutputStream output, Counter rows)
+      throws IOException {
+    OutputStream buffered = new BufferedOutputStream(output, BUFFER_SIZE);
+    RowCallbackHandler writer = rs -> {
+      try {
+        buffered.write(rs.getString(1).getBytes(StandardCharsets.UTF_8));
+        buffered.write('\n');
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      rows.increment();
+    };
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> queries.forEach(query -> jdbcTemplate.query(query, writer)));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    buffered.flush();
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String export) {
+    return Counter.builder("rp.export.rows")
+        .description("Rows written by audit exports")
+        .tag("export", export)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.filesystem;
+
+import com.epam.reportportal.auth.util.FlowMetrics;
+import io.micrometer.core.instrument.Tags;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Records duration and outcome of every {@link DataStore} operation, tagged with the storage type.
+ */
+public class MeteredDataStore implements DataStore {
+
+  private static final String OPERATION_TAG = "operation";
+
+  private final DataStore delegate;
+  private final String type;
+  private final FlowMetrics flowMetrics;
+
+  public MeteredDataStore(DataStore delegate, String type, FlowMetrics flowMetrics) {
+    this.delegate = delegate;
+    this.type = type;
+    this.flowMetrics = flowMetrics;
+  }
+
+  @Override
+  public String save(String fileName, InputStream inputStream) {
+    return flowMetrics.record(FlowMetrics.DATASTORE, tags("save"),
+        () -> delegate.save(fileName, inputStream));
+  }
+
+  @Override
+  public InputStream load(String filePath) {
+    return flowMetrics.record(FlowMetrics.DATASTORE, tags("load"), () -> delegate.load(filePath));
+  }
+
+  @Override
+  public boolean exists(String filePath) {
+    return flowMetrics.record(FlowMetrics.DATASTORE, tags("exists"),
+        () -> delegate.exists(filePath));
+  }
+
+  @Override
+  public void delete(String filePath) {
+    flowMetrics.record(FlowMetrics.DATASTORE, tags("delete"), () -> delegate.delete(filePath));
+  }
+
+  @Override
+  public void deleteAll(List<String> filePaths, String bucketName) {
+    flowMetrics.record(FlowMetrics.DATASTORE, tags("deleteAll"),
+        () -> delegate.deleteAll(filePaths, bucketName));
+  }
+
+  @Override
+  public void deleteContainer(String bucketName) {
+    flowMetrics.record(FlowMetrics.DATASTORE, tags("deleteContainer"),
+        () -> delegate.deleteContainer(bucketName));
+  }
+
+  private Tags tags(String operation) {
+    return Tags.of(FlowMetrics.PROVIDER_TAG, type, OPERATION_TAG, operation);
+  }
+}
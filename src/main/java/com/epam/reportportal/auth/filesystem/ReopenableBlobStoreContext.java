@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.filesystem;
+
+import com.google.common.reflect.Reflection;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+import org.jclouds.blobstore.BlobStore;
+import org.jclouds.blobstore.BlobStoreContext;
+import org.springframework.context.Lifecycle;
+
+/**
+ * jclouds context that is closed when the application context stops, e.g. before a CRaC
+ * checkpoint, and opened again when the context is restarted on restore. The provided
+ * {@link BlobStore} always delegates to the currently open context, so data stores keep their
+ * reference. Calls made while the context is stopped fail instead of reopening it, and once
+ * {@link #close() closed} the context is never opened again.
+ */
+public class ReopenableBlobStoreContext implements Lifecycle, AutoCloseable {
+
+  private final Supplier<BlobStoreContext> contextFactory;
+  private final BlobStore blobStore;
+
+  private volatile BlobStoreContext context;
+  private volatile boolean closed;
+
+  public ReopenableBlobStoreContext(Supplier<BlobStoreContext> contextFactory) {
+    this.contextFactory = contextFactory;
+    this.context = contextFactory.get();
+    this.blobStore = Reflection.newProxy(BlobStore.class, this::invoke);
+  }
+
+  public BlobStore getBlobStore() {
+    return blobStore;
+  }
+
+  @Override
+  public synchronized void start() {
+    if (!closed && context == null) {
+      context = contextFactory.get();
+    }
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (context != null) {
+      context.close();
+      context = null;
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    closed = true;
+    stop();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return context != null;
+  }
+
+  private Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    BlobStoreContext current = context;
+    if (current == null) {
+      throw new IllegalStateException("Blob store context is not open");
+    }
+    try {
+      return method.invoke(current.getBlobStore(), args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
@@ -28,15 +28,20 @@ import com.epam.reportportal.auth.entity.attachment.BinaryData;
 import com.epam.reportportal.auth.entity.project.Project;
 import com.epam.reportportal.auth.entity.user.User;
 import com.epam.reportportal.auth.oauth.UserSynchronizationException;
+import com.epam.reportportal.auth.util.FlowMetrics;
 import com.epam.reportportal.auth.util.PersonalProjectService;
 import com.google.common.collect.Maps;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import java.io.ByteArrayInputStream;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 
 /**
  * @author Andrei Varabyeu
@@ -45,12 +50,15 @@ public class AbstractUserReplicator {
 
   protected static final Logger LOGGER = LoggerFactory.getLogger(AbstractUserReplicator.class);
   private static final String EMAIL_NOT_PROVIDED_MSG = "Email not provided";
+  private static final String REPLICATION_OBSERVATION = "rp.replicate.user";
 
   protected final UserRepository userRepository;
   protected final ProjectRepository projectRepository;
   protected final PersonalProjectService personalProjectService;
   protected UserBinaryDataService userBinaryDataService;
   private final ContentTypeResolver contentTypeResolver;
+  protected ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+  private FlowMetrics flowMetrics;
 
   public AbstractUserReplicator(UserRepository userRepository, ProjectRepository projectRepository,
       PersonalProjectService personalProjectService, UserBinaryDataService userBinaryDataService,
@@ -62,6 +70,32 @@ public class AbstractUserReplicator {
     this.contentTypeResolver = contentTypeResolver;
   }
 
+  @Autowired(required = false)
+  public void setObservationRegistry(ObservationRegistry observationRegistry) {
+    this.observationRegistry = observationRegistry;
+  }
+
+  @Autowired
+  public void setFlowMetrics(FlowMetrics flowMetrics) {
+    this.flowMetrics = flowMetrics;
+  }
+
+  /**
+   * Runs user replication within a timer and a tracing span of the provider.
+   *
+   * @param provider    Authentication provider name
+   * @param replication Replication action
+   * @param <T>         Result type
+   * @return Replicated user
+   */
+  protected <T> T observeReplication(String provider, Supplier<T> replication) {
+    return flowMetrics.record(FlowMetrics.USER_REPLICATION, provider,
+        () -> Observation.createNotStarted(REPLICATION_OBSERVATION, observationRegistry)
+            .contextualName(provider + " user replication")
+            .lowCardinalityKeyValue(FlowMetrics.PROVIDER_TAG, provider)
+            .observe(replication));
+  }
+
   /**
    * Generates personal project if it does NOT exist.
    *
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.integration.github;
+
+import java.time.Duration;
+import javax.annotation.Nullable;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * GitHub API request has failed.
+ */
+public class GitHubApiException extends AuthenticationServiceException {
+
+  @Nullable
+  private final HttpStatusCode status;
+
+  @Nullable
+  private final Duration retryAfter;
+
+  public GitHubApiException(String message, @Nullable HttpStatusCode status,
+      @Nullable Duration retryAfter) {
+    super(message);
+    this.status = status;
+    this.retryAfter = retryAfter;
+  }
+
+  /**
+   * @return Status of the response, {@code null} if the request has not been sent
+   */
+  @Nullable
+  public HttpStatusCode getStatus() {
+    return status;
+  }
+
+  /**
+   * @return Time GitHub asked to wait before the next request, {@code null} if unknown
+   */
+  @Nullable
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+}
@@ -16,23 +16,31 @@
 
 package com.epam.reportportal.auth.integration.github;
 
+import com.epam.reportportal.auth.integration.github.GitHubRateLimiter.Priority;
+import io.micrometer.observation.ObservationRegistry;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.ClientHttpResponse;
-import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.web.client.DefaultResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 
 /**
- * Simple GitHub client.
+ * Simple GitHub client. Requests are checked against the rate limit budget of the access token,
+ * idempotent requests failed by a rate limit or a server error are retried with backoff.
  *
  * @author <a href="mailto:andrei_varabyeu@epam.com">Andrei Varabyeu</a>
  */
@@ -42,49 +50,74 @@ public class GitHubClient {
 
   private static final String GITHUB_BASE_URL = "https://api.github.com";
 
+  private final String baseUrl;
+  private final String tokenKey;
   private final RestTemplate restTemplate;
-
-
-  private GitHubClient(String accessToken) {
-    this.restTemplate = new RestTemplate();
+  private final GitHubRateLimiter rateLimiter;
+
+  GitHubClient(String baseUrl, String accessToken, RestTemplate restTemplate,
+      GitHubRateLimiter rateLimiter) {
+    this.baseUrl = baseUrl;
+    this.tokenKey = GitHubRateLimiter.tokenKey(accessToken);
+    this.restTemplate = restTemplate;
+    this.rateLimiter = rateLimiter;
     this.restTemplate.setErrorHandler(new DefaultResponseErrorHandler() {
       @Override
       public void handleError(ClientHttpResponse response) throws IOException {
-        String errorMessage =
-            "Unable to load Github Data:" + new String(getResponseBody(response), StandardCharsets.UTF_8);
+        String body = new String(getResponseBody(response), StandardCharsets.UTF_8);
+        String errorMessage = "Unable to load Github Data:" + body;
         LOGGER.error(errorMessage);
-        throw new AuthenticationServiceException(errorMessage);
+        throw new GitHubApiException(errorMessage, response.getStatusCode(),
+            rateLimiter.getRetryAfter(tokenKey, response.getStatusCode(), response.getHeaders(),
+                body));
       }
     });
     this.restTemplate.getInterceptors().add((request, body, execution) -> {
       request.getHeaders().add("Authorization", "bearer " + accessToken);
-      return execution.execute(request, body);
+      ClientHttpResponse response = execution.execute(request, body);
+      rateLimiter.update(tokenKey, response.getHeaders());
+      return response;
     });
   }
 
-  public static GitHubClient withAccessToken(String accessToken) {
-    return new GitHubClient(accessToken);
+  public static GitHubClient withAccessToken(String accessToken,
+      ObservationRegistry observationRegistry, GitHubRateLimiter rateLimiter) {
+    RestTemplate restTemplate = new RestTemplate();
+    restTemplate.setObservationRegistry(observationRegistry);
+    return new GitHubClient(GITHUB_BASE_URL, accessToken, restTemplate, rateLimiter);
   }
 
   public UserResource getUser() {
-    return this.restTemplate.getForObject(GITHUB_BASE_URL + "/user", UserResource.class);
+    return execute(Priority.ESSENTIAL,
+        () -> this.restTemplate.getForEntity(baseUrl + "/user", UserResource.class)).getBody();
   }
 
   public Map<String, Object> getUserAttributes() {
-    return getForObject(GITHUB_BASE_URL + "/user", new ParameterizedTypeReference<>() {
+    return getForObject(baseUrl + "/user", new ParameterizedTypeReference<>() {
     });
   }
 
   public List<EmailResource> getUserEmails() {
-    return getForObject(GITHUB_BASE_URL + "/user/emails", new ParameterizedTypeReference<>() {
+    return getForObject(baseUrl + "/user/emails", new ParameterizedTypeReference<>() {
     });
   }
 
-  public List<OrganizationResource> getUserOrganizations(String user) {
-    return getForObject(GITHUB_BASE_URL + "/user/orgs",
-        new ParameterizedTypeReference<>() {
-        },
-        user);
+  /**
+   * Loads organizations of the authenticated user, conditionally if the ETag of a previous response
+   * is known. Both decide on access, so they are essential requests.
+   *
+   * @param etag ETag of the previous response, {@code null} for an unconditional request
+   * @return Organizations, or a {@code 304 Not Modified} response without a body
+   */
+  public ResponseEntity<List<OrganizationResource>> getUserOrganizations(@Nullable String etag) {
+    HttpHeaders headers = new HttpHeaders();
+    if (etag != null) {
+      headers.setIfNoneMatch(etag);
+    }
+    return execute(Priority.ESSENTIAL,
+        () -> this.restTemplate.exchange(baseUrl + "/user/orgs", HttpMethod.GET,
+            new HttpEntity<>(headers), new ParameterizedTypeReference<>() {
+            }));
   }
 
   public List<OrganizationResource> getUserOrganizations(UserResource user) {
@@ -92,11 +125,45 @@ public class GitHubClient {
     });
   }
 
+  /**
+   * Downloads a resource, e.g. an avatar. The request is optional and may be rejected with
+   * {@link GitHubRateLimitException} while the rate limit budget is low.
+   *
+   * @param url Resource URL
+   * @return Resource
+   */
   public ResponseEntity<Resource> downloadResource(String url) {
-    return this.restTemplate.getForEntity(url, Resource.class);
+    return execute(Priority.OPTIONAL, () -> this.restTemplate.getForEntity(url, Resource.class));
   }
 
   private <T> T getForObject(String url, ParameterizedTypeReference<T> type, Object... urlVars) {
-    return this.restTemplate.exchange(url, HttpMethod.GET, null, type, urlVars).getBody();
+    return execute(Priority.ESSENTIAL,
+        () -> this.restTemplate.exchange(url, HttpMethod.GET, null, type, urlVars)).getBody();
+  }
+
+  private <T> ResponseEntity<T> execute(Priority priority, Supplier<ResponseEntity<T>> request) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        rateLimiter.acquire(tokenKey, priority);
+        return request.get();
+      } catch (GitHubApiException e) {
+        Optional<Duration> delay = rateLimiter.getRetryDelay(attempt, priority, e);
+        if (delay.isEmpty()) {
+          throw e;
+        }
+        LOGGER.debug("GitHub request failed, retrying in {} ms: {}", delay.get().toMillis(),
+            e.getMessage());
+        sleep(delay.get(), e);
+      }
+    }
+  }
+
+  private static void sleep(Duration delay, GitHubApiException cause) {
+    try {
+      Thread.sleep(delay.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw cause;
+    }
   }
 }
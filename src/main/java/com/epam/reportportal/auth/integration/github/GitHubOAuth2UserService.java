@@ -19,11 +19,11 @@ import static com.epam.reportportal.auth.integration.github.GithubOauthProvider.
 
 import com.epam.reportportal.auth.commons.ReportPortalUser;
 import com.epam.reportportal.auth.model.settings.OAuthRegistrationResource;
+import com.epam.reportportal.auth.util.FlowMetrics;
 import com.google.common.base.Splitter;
-import java.util.Collections;
-import java.util.List;
+import com.google.common.collect.ImmutableSet;
 import java.util.Optional;
-import java.util.function.Supplier;
+import java.util.Set;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -35,12 +35,17 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 public class GitHubOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
   private final GitHubUserReplicator replicator;
-  private final Supplier<OAuthRegistrationResource> oAuthRegistrationSupplier;
+  private final GitHubOrganizationsCache organizationsCache;
+  private final Set<String> allowedOrganizations;
+  private final FlowMetrics flowMetrics;
 
   public GitHubOAuth2UserService(GitHubUserReplicator replicator,
-      Supplier<OAuthRegistrationResource> oAuthRegistrationSupplier) {
+      GitHubOrganizationsCache organizationsCache, OAuthRegistrationResource registration,
+      FlowMetrics flowMetrics) {
     this.replicator = replicator;
-    this.oAuthRegistrationSupplier = oAuthRegistrationSupplier;
+    this.organizationsCache = organizationsCache;
+    this.flowMetrics = flowMetrics;
+    this.allowedOrganizations = parseAllowedOrganizations(registration);
   }
 
   @Override
@@ -48,15 +53,17 @@ public class GitHubOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
     if (!userRequest.getClientRegistration().getRegistrationId().equals(PROVIDER_NAME)) {
       return null;
     }
+    return flowMetrics.record(FlowMetrics.LOGIN, PROVIDER_NAME, () -> loadGitHubUser(userRequest));
+  }
+
+  private OAuth2User loadGitHubUser(OAuth2UserRequest userRequest) {
     String accessToken = userRequest.getAccessToken().getTokenValue();
 
-    GitHubClient gitHubClient = GitHubClient.withAccessToken(accessToken);
+    GitHubClient gitHubClient = replicator.createClient(accessToken);
     UserResource gitHubUser = gitHubClient.getUser();
 
-    OAuthRegistrationResource registration = oAuthRegistrationSupplier.get();
-    List<String> allowedOrgs = parseAllowedOrganizations(registration);
-    if (!allowedOrgs.isEmpty()) {
-      validateUserOrganizations(gitHubUser.getLogin(), gitHubClient, allowedOrgs);
+    if (!allowedOrganizations.isEmpty()) {
+      validateUserOrganizations(gitHubUser.getLogin(), gitHubClient);
     }
 
     ReportPortalUser user = replicator.replicateUser(gitHubUser, gitHubClient);
@@ -64,20 +71,17 @@ public class GitHubOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
     return new RPOAuth2User(user, accessToken);
   }
 
-  private List<String> parseAllowedOrganizations(OAuthRegistrationResource registration) {
+  private static Set<String> parseAllowedOrganizations(OAuthRegistrationResource registration) {
     return Optional.ofNullable(registration.getRestrictions())
         .map(restrictions -> restrictions.get("organizations"))
-        .map(orgs -> Splitter.on(',').omitEmptyStrings().splitToList(orgs))
-        .orElse(Collections.emptyList());
+        .map(orgs -> ImmutableSet.copyOf(Splitter.on(',').omitEmptyStrings().split(orgs)))
+        .orElse(ImmutableSet.of());
   }
 
-  private void validateUserOrganizations(String username,
-      GitHubClient client,
-      List<String> allowedOrgs) {
-    boolean hasAccess = client.getUserOrganizations(username)
+  private void validateUserOrganizations(String username, GitHubClient client) {
+    boolean hasAccess = organizationsCache.getOrganizations(username, client)
         .stream()
-        .map(OrganizationResource::getLogin)
-        .anyMatch(allowedOrgs::contains);
+        .anyMatch(allowedOrganizations::contains);
 
     if (!hasAccess) {
       throw new OAuth2AuthenticationException(
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.integration.github;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * GitHub organizations of users, checked by logins of registrations restricted to organizations.
+ * <p>
+ * Memberships are trusted for the configured time to live. After that they are revalidated with a
+ * conditional request, GitHub answers unchanged memberships with {@code 304 Not Modified}, which
+ * does not count against the rate limit. ETags are kept for a day after the last login. Expired
+ * memberships are never trusted, a login fails if they cannot be revalidated.
+ */
+@Component
+public class GitHubOrganizationsCache {
+
+  private static final Duration RETENTION = Duration.ofDays(1);
+  private static final String REQUESTS_METRIC = "rp.github.organizations.requests";
+
+  private final Cache<String, Memberships> memberships;
+  private final long timeToLive;
+  private final Ticker ticker;
+  private final Counter cached;
+  private final Counter notModified;
+  private final Counter loaded;
+
+  @Autowired
+  public GitHubOrganizationsCache(@Value("${rp.auth.github.organizations.ttl}") long timeToLive,
+      @Value("${rp.auth.github.organizations.cache-size}") long cacheSize,
+      MeterRegistry meterRegistry) {
+    this(Duration.ofSeconds(timeToLive), cacheSize, meterRegistry, Ticker.systemTicker());
+  }
+
+  GitHubOrganizationsCache(Duration timeToLive, long cacheSize, MeterRegistry meterRegistry,
+      Ticker ticker) {
+    this.memberships = CacheBuilder.newBuilder()
+        .maximumSize(cacheSize)
+        .expireAfterAccess(RETENTION)
+        .ticker(ticker)
+        .build();
+    this.timeToLive = timeToLive.toNanos();
+    this.ticker = ticker;
+    this.cached = counter(meterRegistry, "cached");
+    this.notModified = counter(meterRegistry, "not_modified");
+    this.loaded = counter(meterRegistry, "loaded");
+  }
+
+  /**
+   * @param username GitHub login of the user
+   * @param client   Client authorized with the user's access token
+   * @return Logins of organizations the user is a member of
+   * @throws GitHubRateLimitException if memberships are unknown or expired and the rate limit
+   *                                  budget does not allow loading them
+   */
+  public Set<String> getOrganizations(String username, GitHubClient client) {
+    long now = ticker.read();
+    Memberships current = memberships.getIfPresent(username);
+    if (current != null && now - current.validatedAt() < timeToLive) {
+      cached.increment();
+      return current.organizations();
+    }
+
+    ResponseEntity<List<OrganizationResource>> response = client.getUserOrganizations(
+        current != null ? current.etag() : null);
+    Memberships updated;
+    if (current != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+      notModified.increment();
+      updated = new Memberships(current.etag(), current.organizations(), now);
+    } else {
+      loaded.increment();
+      Set<String> organizations = Optional.ofNullable(response.getBody())
+          .orElse(List.of())
+          .stream()
+          .map(OrganizationResource::getLogin)
+          .collect(ImmutableSet.toImmutableSet());
+      updated = new Memberships(response.getHeaders().getETag(), organizations, now);
+    }
+    memberships.put(username, updated);
+    return updated.organizations();
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder(REQUESTS_METRIC)
+        .description("Organization membership checks of GitHub logins")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private record Memberships(String etag, Set<String> organizations, long validatedAt) {
+
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.integration.github;
+
+import java.time.Duration;
+import javax.annotation.Nullable;
+
+/**
+ * GitHub API request has not been sent, because the rate limit budget does not allow it.
+ */
+public class GitHubRateLimitException extends GitHubApiException {
+
+  public GitHubRateLimitException(String message, @Nullable Duration retryAfter) {
+    super(message, null, retryAfter);
+  }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.integration.github;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.Longs;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps GitHub API requests within the rate limits.
+ * <p>
+ * The primary budget is tracked per access token from the {@code X-RateLimit-*} headers of every
+ * response. A secondary rate limit ({@code 403}/{@code 429} with {@code Retry-After} or with the
+ * secondary rate limit message) pauses the requests of the token until it passes. Other
+ * {@code 403} responses, e.g. a missing permission, do not. Optional requests are shed while the
+ * budget of the token is low, so the remaining budget is left for requests a login cannot do
+ * without. Idempotent requests failed by a rate limit or a server error are retried with jittered
+ * exponential backoff, as long as the wait fits into the configured maximum.
+ */
+@Slf4j
+@Component
+public class GitHubRateLimiter {
+
+  static final String LIMIT_HEADER = "X-RateLimit-Limit";
+  static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+  static final String RESET_HEADER = "X-RateLimit-Reset";
+
+  private static final Duration DEFAULT_SECONDARY_WAIT = Duration.ofMinutes(1);
+  private static final Duration BUDGET_RETENTION = Duration.ofHours(1);
+  private static final String SECONDARY_LIMIT_MESSAGE = "secondary rate limit";
+
+  /**
+   * Importance of a request for a login.
+   */
+  public enum Priority {
+    /**
+     * The login fails without the request.
+     */
+    ESSENTIAL,
+    /**
+     * The login can proceed without the request, e.g. avatar download or membership refresh.
+     */
+    OPTIONAL
+  }
+
+  private final Cache<String, Budget> budgets = CacheBuilder.newBuilder()
+      .expireAfterWrite(BUDGET_RETENTION)
+      .build();
+  private final Cache<String, Long> blockedUntil = CacheBuilder.newBuilder()
+      .expireAfterWrite(BUDGET_RETENTION)
+      .build();
+
+  private final long lowBudget;
+  private final int maxAttempts;
+  private final long baseDelay;
+  private final long maxDelay;
+  private final Counter retried;
+  private final Counter shed;
+
+  public GitHubRateLimiter(@Value("${rp.auth.github.ratelimit.low-budget}") long lowBudget,
+      @Value("${rp.auth.github.ratelimit.max-attempts}") int maxAttempts,
+      @Value("${rp.auth.github.ratelimit.base-delay}") long baseDelay,
+      @Value("${rp.auth.github.ratelimit.max-delay}") long maxDelay,
+      MeterRegistry meterRegistry) {
+    this.lowBudget = lowBudget;
+    this.maxAttempts = maxAttempts;
+    this.baseDelay = baseDelay;
+    this.maxDelay = maxDelay;
+    this.retried = Counter.builder("rp.github.requests.retried")
+        .description("GitHub API requests retried after a rate limit or a server error")
+        .register(meterRegistry);
+    this.shed = Counter.builder("rp.github.requests.shed")
+        .description("Optional GitHub API requests skipped to save the rate limit budget")
+        .register(meterRegistry);
+    Gauge.builder("rp.github.ratelimit.remaining", this::getLowestRemaining)
+        .description("Lowest remaining rate limit budget among recently used tokens")
+        .register(meterRegistry);
+    Gauge.builder("rp.github.ratelimit.tokens", budgets, Cache::size)
+        .description("Tokens with a tracked rate limit budget")
+        .register(meterRegistry);
+    Gauge.builder("rp.github.ratelimit.blocked", this::getBlockedSeconds)
+        .description("Seconds till the longest secondary rate limit of a token passes")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+  }
+
+  /**
+   * @param accessToken GitHub access token
+   * @return Key the budget of the token is tracked by, the token itself is not kept
+   */
+  static String tokenKey(String accessToken) {
+    return Hashing.sha256().hashString(accessToken, StandardCharsets.UTF_8).toString();
+  }
+
+  /**
+   * Checks that a request may be sent.
+   *
+   * @param tokenKey Key of the access token
+   * @param priority Priority of the request
+   * @throws GitHubRateLimitException if the request should not be sent now
+   */
+  public void acquire(String tokenKey, Priority priority) {
+    long now = System.currentTimeMillis();
+    long blocked = Optional.ofNullable(blockedUntil.getIfPresent(tokenKey)).orElse(0L);
+    if (blocked > now) {
+      throw rejected(priority, "GitHub secondary rate limit is in effect",
+          Duration.ofMillis(blocked - now));
+    }
+    Budget budget = budgets.getIfPresent(tokenKey);
+    if (budget == null || budget.resetAt() <= now) {
+      return;
+    }
+    if (budget.remaining() <= 0) {
+      throw rejected(priority, "GitHub rate limit of the token is exhausted",
+          Duration.ofMillis(budget.resetAt() - now));
+    }
+    if (priority == Priority.OPTIONAL && budget.remaining() < lowBudget) {
+      throw rejected(priority, "GitHub rate limit budget of the token is low", null);
+    }
+  }
+
+  /**
+   * Updates the budget from a response.
+   *
+   * @param tokenKey Key of the access token
+   * @param headers  Headers of the response
+   */
+  public void update(String tokenKey, HttpHeaders headers) {
+    Long remaining = parse(headers.getFirst(REMAINING_HEADER));
+    Long reset = parse(headers.getFirst(RESET_HEADER));
+    if (remaining != null && reset != null) {
+      budgets.put(tokenKey, new Budget(remaining, reset * 1000));
+    }
+  }
+
+  /**
+   * Resolves the wait of a failed response. A secondary rate limit pauses further requests of the
+   * token until the wait passes.
+   *
+   * @param tokenKey Key of the access token
+   * @param status   Status of the response
+   * @param headers  Headers of the response
+   * @param body     Body of the response
+   * @return Time GitHub asked to wait, {@code null} if the response is not rate limited and does
+   * not say
+   */
+  @Nullable
+  public Duration getRetryAfter(String tokenKey, HttpStatusCode status, HttpHeaders headers,
+      String body) {
+    Long retryAfter = parse(headers.getFirst(HttpHeaders.RETRY_AFTER));
+    if (isRateLimited(status) && (retryAfter != null || body.contains(SECONDARY_LIMIT_MESSAGE))) {
+      Duration wait = retryAfter == null ? DEFAULT_SECONDARY_WAIT : Duration.ofSeconds(retryAfter);
+      blockedUntil.asMap().merge(tokenKey, System.currentTimeMillis() + wait.toMillis(),
+          Math::max);
+      log.warn("GitHub secondary rate limit hit, requests of the token are paused for {} s",
+          wait.toSeconds());
+      return wait;
+    }
+    if (retryAfter != null) {
+      return Duration.ofSeconds(retryAfter);
+    }
+    Long remaining = parse(headers.getFirst(REMAINING_HEADER));
+    Long reset = parse(headers.getFirst(RESET_HEADER));
+    if (remaining != null && remaining == 0 && reset != null) {
+      return Duration.ofMillis(Math.max(0, reset * 1000 - System.currentTimeMillis()));
+    }
+    return null;
+  }
+
+  /**
+   * Decides whether a failed request is retried.
+   *
+   * @param attempt  Number of the failed attempt, starting with 1
+   * @param priority Priority of the request
+   * @param e        Failure
+   * @return Delay before the next attempt, empty if the request must not be retried
+   */
+  public Optional<Duration> getRetryDelay(int attempt, Priority priority, GitHubApiException e) {
+    if (attempt >= maxAttempts || !isRetryable(priority, e)) {
+      return Optional.empty();
+    }
+    long ceiling = Math.min(maxDelay, baseDelay << Math.min(attempt - 1, 20));
+    long delay = ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    if (e.getRetryAfter() != null) {
+      delay = Math.max(delay, e.getRetryAfter().toMillis());
+    }
+    if (delay > maxDelay) {
+      return Optional.empty();
+    }
+    retried.increment();
+    return Optional.of(Duration.ofMillis(delay));
+  }
+
+  private boolean isRetryable(Priority priority, GitHubApiException e) {
+    if (e instanceof GitHubRateLimitException) {
+      return priority == Priority.ESSENTIAL && e.getRetryAfter() != null;
+    }
+    HttpStatusCode status = e.getStatus();
+    return status != null && (status.is5xxServerError() || (isRateLimited(status)
+        && e.getRetryAfter() != null));
+  }
+
+  private GitHubRateLimitException rejected(Priority priority, String reason,
+      @Nullable Duration retryAfter) {
+    if (priority == Priority.OPTIONAL) {
+      shed.increment();
+    }
+    return new GitHubRateLimitException(reason, retryAfter);
+  }
+
+  private double getLowestRemaining() {
+    long now = System.currentTimeMillis();
+    return budgets.asMap()
+        .values()
+        .stream()
+        .filter(budget -> budget.resetAt() > now)
+        .mapToLong(Budget::remaining)
+        .min()
+        .orElse(-1);
+  }
+
+  private double getBlockedSeconds() {
+    long now = System.currentTimeMillis();
+    return blockedUntil.asMap()
+        .values()
+        .stream()
+        .mapToLong(blocked -> Math.max(0, blocked - now))
+        .max()
+        .orElse(0) / 1000.0;
+  }
+
+  private static boolean isRateLimited(HttpStatusCode status) {
+    return status.isSameCodeAs(HttpStatus.FORBIDDEN)
+        || status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+  }
+
+  @Nullable
+  private static Long parse(@Nullable String value) {
+    return value == null ? null : Longs.tryParse(value.trim());
+  }
+
+  private record Budget(long remaining, long resetAt) {
+
+  }
+}
@@ -17,6 +17,7 @@
 package com.epam.reportportal.auth.integration.github;
 
 import static com.epam.reportportal.auth.util.AuthUtils.NORMALIZE_STRING;
+import static com.epam.reportportal.auth.integration.github.GithubOauthProvider.PROVIDER_NAME;
 import static com.google.common.base.Strings.isNullOrEmpty;
 
 import com.epam.reportportal.auth.binary.UserBinaryDataService;
@@ -58,21 +59,25 @@ public class GitHubUserReplicator extends AbstractUserReplicator {
    */
   public GitHubUserReplicator(UserRepository userRepository, ProjectRepository projectRepository,
       PersonalProjectService personalProjectService, UserBinaryDataService userBinaryDataService,
-      ContentTypeResolver contentTypeResolver, UserEventPublisher userEventPublisher) {
+      ContentTypeResolver contentTypeResolver, UserEventPublisher userEventPublisher,
+      GitHubRateLimiter rateLimiter) {
     super(userRepository, projectRepository, personalProjectService, userBinaryDataService,
         contentTypeResolver);
     this.userEventPublisher = userEventPublisher;
+    this.rateLimiter = rateLimiter;
   }
 
   private final UserEventPublisher userEventPublisher;
 
+  private final GitHubRateLimiter rateLimiter;
+
   /**
    * Synchronizes user with GitHub account.
    *
    * @param accessToken GitHub access token
    */
   public void synchronizeUser(String accessToken) {
-    GitHubClient gitHubClient = GitHubClient.withAccessToken(accessToken);
+    GitHubClient gitHubClient = createClient(accessToken);
     UserResource userResource = gitHubClient.getUser();
 
     var email = resolveEmail(userResource, gitHubClient);
@@ -91,6 +96,16 @@ public class GitHubUserReplicator extends AbstractUserReplicator {
     userRepository.save(user);
   }
 
+  /**
+   * Creates GitHub client, requests of which are observed and kept within the rate limits.
+   *
+   * @param accessToken GitHub access token
+   * @return {@link GitHubClient}
+   */
+  public GitHubClient createClient(String accessToken) {
+    return GitHubClient.withAccessToken(accessToken, observationRegistry, rateLimiter);
+  }
+
   /**
    * Replicates GitHub user to internal database (if does NOT exist). Updates if exist. Creates
    * personal project for that user
@@ -101,6 +116,10 @@ public class GitHubUserReplicator extends AbstractUserReplicator {
    */
   @Transactional
   public ReportPortalUser replicateUser(UserResource userResource, GitHubClient gitHubClient) {
+    return observeReplication(PROVIDER_NAME, () -> replicate(userResource, gitHubClient));
+  }
+
+  private ReportPortalUser replicate(UserResource userResource, GitHubClient gitHubClient) {
     String email = resolveEmail(userResource, gitHubClient);
 
     User user = userRepository.findByEmail(email).map(u -> {
@@ -145,7 +164,13 @@ public class GitHubUserReplicator extends AbstractUserReplicator {
 
   private void uploadAvatar(GitHubClient gitHubClient, User user, String avatarUrl) {
     if (null != avatarUrl) {
-      ResponseEntity<Resource> photoRs = gitHubClient.downloadResource(avatarUrl);
+      ResponseEntity<Resource> photoRs;
+      try {
+        photoRs = gitHubClient.downloadResource(avatarUrl);
+      } catch (GitHubRateLimitException e) {
+        LOGGER.warn("Photo of user {} is not loaded: {}", user.getLogin(), e.getMessage());
+        return;
+      }
       try (InputStream photoStream = Objects.requireNonNull(photoRs.getBody()).getInputStream()) {
         BinaryData photo = new BinaryData(
             Objects.requireNonNull(photoRs.getHeaders().getContentType()).toString(),
@@ -18,6 +18,7 @@ package com.epam.reportportal.auth.integration.github;
 
 import com.epam.reportportal.auth.model.settings.OAuthRegistrationResource;
 import com.epam.reportportal.auth.oauth.OAuthProvider;
+import com.epam.reportportal.auth.util.FlowMetrics;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.stereotype.Component;
 
@@ -37,14 +38,20 @@ public class GithubOauthProvider extends OAuthProvider {
   public static final String PROVIDER_NAME = "github";
 
   private final GitHubUserReplicator gitHubUserReplicator;
+  private final GitHubOrganizationsCache organizationsCache;
+  private final FlowMetrics flowMetrics;
 
-  public GithubOauthProvider(GitHubUserReplicator gitHubUserReplicator) {
+  public GithubOauthProvider(GitHubUserReplicator gitHubUserReplicator,
+      GitHubOrganizationsCache organizationsCache, FlowMetrics flowMetrics) {
     super(PROVIDER_NAME, BUTTON, true);
     this.gitHubUserReplicator = gitHubUserReplicator;
+    this.organizationsCache = organizationsCache;
+    this.flowMetrics = flowMetrics;
   }
 
   @Override
   public OAuth2UserService getUserService(OAuthRegistrationResource registrationResource) {
-    return new GitHubOAuth2UserService(gitHubUserReplicator, () -> registrationResource);
+    return new GitHubOAuth2UserService(gitHubUserReplicator, organizationsCache,
+        registrationResource, flowMetrics);
   }
 }
@@ -28,6 +28,7 @@ import com.epam.reportportal.auth.integration.AuthIntegrationType;
 import com.epam.reportportal.auth.integration.parameter.LdapParameter;
 import com.epam.reportportal.auth.rules.exception.ReportPortalException;
 import com.epam.reportportal.auth.util.FeatureFlagHandler;
+import com.epam.reportportal.auth.util.FlowMetrics;
 import java.util.Collections;
 import org.jasypt.util.text.BasicTextEncryptor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,6 +38,8 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.authentication.configurers.ldap.LdapAuthenticationProviderConfigurer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.ldap.DefaultSpringSecurityContextSource;
@@ -59,6 +62,9 @@ public class LdapAuthProvider extends EnableableAuthProvider {
   @Autowired
   private BasicTextEncryptor encryptor;
 
+  @Autowired
+  private FlowMetrics flowMetrics;
+
   public LdapAuthProvider(IntegrationRepository integrationRepository,
       ApplicationEventPublisher eventPublisher,
       DetailsContextMapper detailsContextMapper, TokenServicesFacade tokenService) {
@@ -66,6 +72,12 @@ public class LdapAuthProvider extends EnableableAuthProvider {
     this.detailsContextMapper = detailsContextMapper;
   }
 
+  @Override
+  public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+    return flowMetrics.recordIfHandled(FlowMetrics.LOGIN, AuthIntegrationType.LDAP.getName(),
+        () -> super.authenticate(authentication));
+  }
+
   @Override
   protected boolean isEnabled() {
     return integrationRepository.findAllByTypeIn(AuthIntegrationType.LDAP.getName()).stream()
@@ -81,15 +93,7 @@ public class LdapAuthProvider extends EnableableAuthProvider {
         .findFirst()
         .orElseThrow(() -> new BadCredentialsException("LDAP is not configured"));
 
-    DefaultSpringSecurityContextSource contextSource = new DefaultSpringSecurityContextSource(
-        singletonList(LdapParameter.URL.getRequiredParameter(
-            integration)), LdapParameter.BASE_DN.getRequiredParameter(integration));
-    LdapParameter.MANAGER_PASSWORD.getParameter(integration)
-        .ifPresent(it -> contextSource.setPassword(encryptor.decrypt(it)));
-    LdapParameter.MANAGER_DN.getParameter(integration).ifPresent(contextSource::setUserDn);
-    contextSource.setBaseEnvironmentProperties(
-        Collections.singletonMap("com.sun.jndi.ldap.connect.timeout", LDAP_TIMEOUT));
-    contextSource.afterPropertiesSet();
+    DefaultSpringSecurityContextSource contextSource = createContextSource(integration, encryptor);
 
     LdapAuthenticationProviderConfigurer<AuthenticationManagerBuilder> builder =
         new LdapAuthenticationProviderConfigurer<AuthenticationManagerBuilder>()
@@ -148,4 +152,26 @@ public class LdapAuthProvider extends EnableableAuthProvider {
     }
   }
 
+  /**
+   * Creates a context source of the LDAP server, bound with the manager credentials if they are
+   * configured.
+   *
+   * @param integration LDAP integration
+   * @param encryptor   Encryptor of the manager password
+   * @return Initialized context source
+   */
+  static DefaultSpringSecurityContextSource createContextSource(Integration integration,
+      BasicTextEncryptor encryptor) {
+    DefaultSpringSecurityContextSource contextSource = new DefaultSpringSecurityContextSource(
+        singletonList(LdapParameter.URL.getRequiredParameter(
+            integration)), LdapParameter.BASE_DN.getRequiredParameter(integration));
+    LdapParameter.MANAGER_PASSWORD.getParameter(integration)
+        .ifPresent(it -> contextSource.setPassword(encryptor.decrypt(it)));
+    LdapParameter.MANAGER_DN.getParameter(integration).ifPresent(contextSource::setUserDn);
+    contextSource.setBaseEnvironmentProperties(
+        Collections.singletonMap("com.sun.jndi.ldap.connect.timeout", LDAP_TIMEOUT));
+    contextSource.afterPropertiesSet();
+    return contextSource;
+  }
+
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.integration.ldap;
+
+import com.epam.reportportal.auth.dao.IntegrationRepository;
+import com.epam.reportportal.auth.entity.integration.Integration;
+import com.epam.reportportal.auth.entity.user.User;
+import com.epam.reportportal.auth.entity.user.UserType;
+import com.epam.reportportal.auth.integration.AuthIntegrationType;
+import com.epam.reportportal.auth.integration.parameter.LdapParameter;
+import com.epam.reportportal.auth.integration.parameter.ParameterUtils;
+import com.epam.reportportal.auth.integration.sync.UserDirectory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.naming.directory.SearchControls;
+import org.apache.commons.lang3.StringUtils;
+import org.jasypt.util.text.BasicTextEncryptor;
+import org.springframework.ldap.core.ContextMapper;
+import org.springframework.ldap.core.DirContextOperations;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.filter.EqualsFilter;
+import org.springframework.ldap.filter.OrFilter;
+import org.springframework.stereotype.Component;
+
+/**
+ * LDAP server users are replicated from. A page of users is looked up with a single search, which
+ * matches any of their emails.
+ */
+@Component
+public class LdapUserDirectory implements UserDirectory {
+
+  private final IntegrationRepository integrationRepository;
+  private final BasicTextEncryptor encryptor;
+
+  public LdapUserDirectory(IntegrationRepository integrationRepository,
+      BasicTextEncryptor encryptor) {
+    this.integrationRepository = integrationRepository;
+    this.encryptor = encryptor;
+  }
+
+  @Override
+  public UserType getUserType() {
+    return UserType.LDAP;
+  }
+
+  @Override
+  public Optional<Lookup> connect() {
+    return integrationRepository.findAllByTypeIn(AuthIntegrationType.LDAP.getName())
+        .stream()
+        .filter(Integration::isEnabled)
+        .findFirst()
+        .map(this::createLookup);
+  }
+
+  private Lookup createLookup(Integration integration) {
+    Map<String, String> syncAttributes = ParameterUtils.getLdapSyncAttributes(integration);
+    String emailAttribute = syncAttributes.get(LdapParameter.EMAIL_ATTRIBUTE.getParameterName());
+    LdapTemplate ldapTemplate = new LdapTemplate(
+        LdapAuthProvider.createContextSource(integration, encryptor));
+    ldapTemplate.setIgnorePartialResultException(true);
+
+    SearchControls controls = new SearchControls();
+    controls.setSearchScope(SearchControls.SUBTREE_SCOPE);
+    controls.setTimeLimit(Integer.parseInt(LdapAuthProvider.LDAP_TIMEOUT));
+    controls.setReturningAttributes(syncAttributes.values()
+        .stream()
+        .filter(StringUtils::isNotBlank)
+        .distinct()
+        .toArray(String[]::new));
+
+    return users -> {
+      Map<String, Long> ids = users.stream()
+          .filter(user -> StringUtils.isNotBlank(user.getEmail()))
+          .collect(Collectors.toMap(user -> user.getEmail().toLowerCase(Locale.ROOT), User::getId,
+              (first, second) -> first));
+      if (ids.isEmpty()) {
+        return Map.of();
+      }
+      OrFilter filter = new OrFilter();
+      ids.keySet().forEach(email -> filter.or(new EqualsFilter(emailAttribute, email)));
+      List<DirContextOperations> entries = ldapTemplate.search("", filter.encode(), controls,
+          (ContextMapper<DirContextOperations>) ctx -> (DirContextOperations) ctx);
+
+      Map<Long, String> fullNames = new HashMap<>();
+      for (DirContextOperations entry : entries) {
+        Optional.ofNullable(entry.getStringAttribute(emailAttribute))
+            .map(email -> ids.get(email.toLowerCase(Locale.ROOT)))
+            .ifPresent(id -> fullNames.put(id,
+                LdapUserReplicator.getFullName(entry, syncAttributes)));
+      }
+      return fullNames;
+    };
+  }
+}
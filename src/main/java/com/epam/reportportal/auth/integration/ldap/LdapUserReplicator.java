@@ -27,6 +27,7 @@ import com.epam.reportportal.auth.entity.user.UserRole;
 import com.epam.reportportal.auth.entity.user.UserType;
 import com.epam.reportportal.auth.event.UserEventPublisher;
 import com.epam.reportportal.auth.integration.AbstractUserReplicator;
+import com.epam.reportportal.auth.integration.AuthIntegrationType;
 import com.epam.reportportal.auth.integration.parameter.LdapParameter;
 import com.epam.reportportal.auth.oauth.UserSynchronizationException;
 import com.epam.reportportal.auth.util.PersonalProjectService;
@@ -70,6 +71,10 @@ public class LdapUserReplicator extends AbstractUserReplicator {
    */
   @Transactional
   public User replicateUser(DirContextOperations ctx, Map<String, String> syncAttrs) {
+    return observeReplication(AuthIntegrationType.LDAP.getName(), () -> replicate(ctx, syncAttrs));
+  }
+
+  private User replicate(DirContextOperations ctx, Map<String, String> syncAttrs) {
     String emailAttribute = ofNullable(
         syncAttrs.get(LdapParameter.EMAIL_ATTRIBUTE.getParameterName()))
         .orElseThrow(() -> new UserSynchronizationException(EMAIL_ATTRIBUTE_NOT_PROVIDED_MSG));
@@ -115,7 +120,12 @@ public class LdapUserReplicator extends AbstractUserReplicator {
     return saved;
   }
 
-  private String getFullName(DirContextOperations ctx, Map<String, String> syncAttributes) {
+  /**
+   * @param ctx            LDAP entry of the user
+   * @param syncAttributes Synchronization attributes
+   * @return Full name of the user, or first and last names if the full name is not configured
+   */
+  static String getFullName(DirContextOperations ctx, Map<String, String> syncAttributes) {
 
     Optional<String> fullName = getAttribute(ctx, syncAttributes,
         LdapParameter.FULL_NAME_ATTRIBUTE);
@@ -144,7 +154,7 @@ public class LdapUserReplicator extends AbstractUserReplicator {
     }
   }
 
-  private Optional<String> getAttribute(DirContextOperations ctx,
+  private static Optional<String> getAttribute(DirContextOperations ctx,
       Map<String, String> syncAttributes, LdapParameter parameter) {
     return ofNullable(syncAttributes.get(parameter.getParameterName()))
         .filter(StringUtils::isNotBlank)
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.integration.provisioning;
+
+import com.epam.reportportal.auth.model.provisioning.ProvisionUserRQ;
+import com.epam.reportportal.auth.rules.exception.ErrorType;
+import com.epam.reportportal.auth.rules.exception.ReportPortalException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.AbstractIterator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads users to provision from a request body row by row, so the body is never held in memory.
+ */
+public final class ProvisionedUsersReader {
+
+  private static final String EMAIL_COLUMN = "email";
+  private static final String FULL_NAME_COLUMN = "fullname";
+  private static final String TYPE_COLUMN = "type";
+  private static final String ROLE_COLUMN = "role";
+
+  static final int MAX_FIELD_LENGTH = 1024;
+  static final int MAX_FIELDS = 64;
+
+  private ProvisionedUsersReader() {
+  }
+
+  /**
+   * @param body         Newline delimited JSON objects
+   * @param objectMapper Object mapper
+   * @return Users in the order of rows
+   * @throws IOException if the body cannot be read
+   */
+  public static Iterator<ProvisionUserRQ> fromNdjson(InputStream body, ObjectMapper objectMapper)
+      throws IOException {
+    return objectMapper.readerFor(ProvisionUserRQ.class).readValues(body);
+  }
+
+  /**
+   * @param body CSV with a header row, columns are matched by name: {@code email},
+   *             {@code fullName}, {@code type}, {@code role}. Fields are limited to
+   *             {@value #MAX_FIELD_LENGTH} characters, records to {@value #MAX_FIELDS} fields.
+   * @return Users in the order of rows
+   */
+  public static Iterator<ProvisionUserRQ> fromCsv(InputStream body) {
+    CsvReader reader = new CsvReader(
+        new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)));
+    return new AbstractIterator<>() {
+
+      private Map<String, Integer> columns;
+
+      @Override
+      protected ProvisionUserRQ computeNext() {
+        List<String> record;
+        do {
+          record = reader.readRecord();
+          if (record == null) {
+            return endOfData();
+          }
+        } while (record.size() == 1 && record.get(0).isBlank());
+        if (columns == null) {
+          columns = readHeader(record);
+          return computeNext();
+        }
+        return new ProvisionUserRQ(get(record, EMAIL_COLUMN), get(record, FULL_NAME_COLUMN),
+            get(record, TYPE_COLUMN), get(record, ROLE_COLUMN));
+      }
+
+      private String get(List<String> record, String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= record.size() ? null : record.get(index).trim();
+      }
+    };
+  }
+
+  private static Map<String, Integer> readHeader(List<String> header) {
+    Map<String, Integer> columns = new HashMap<>();
+    for (int i = 0; i < header.size(); i++) {
+      columns.putIfAbsent(header.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+    }
+    if (!columns.containsKey(EMAIL_COLUMN) || !columns.containsKey(TYPE_COLUMN)) {
+      throw new ReportPortalException(ErrorType.INCORRECT_REQUEST,
+          "CSV header should contain 'email' and 'type' columns");
+    }
+    return columns;
+  }
+
+  /**
+   * Reader of RFC 4180 records: comma separated fields, optionally enclosed in double quotes, with
+   * doubled quotes and line breaks allowed in quoted fields. Fields and records are bounded, so a
+   * malformed body, e.g. with an unclosed quote, fails fast instead of being buffered.
+   */
+  private static final class CsvReader {
+
+    private final BufferedReader reader;
+
+    private CsvReader(BufferedReader reader) {
+      this.reader = reader;
+    }
+
+    private List<String> readRecord() {
+      try {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean empty = true;
+        int c;
+        while ((c = reader.read()) != -1) {
+          empty = false;
+          if (quoted) {
+            if (c != '"') {
+              append(field, c);
+              continue;
+            }
+            reader.mark(1);
+            if (reader.read() == '"') {
+              append(field, '"');
+            } else {
+              quoted = false;
+              reader.reset();
+            }
+          } else if (c == '"') {
+            quoted = true;
+          } else if (c == ',') {
+            add(fields, field);
+            field.setLength(0);
+          } else if (c == '\n') {
+            add(fields, field);
+            return fields;
+          } else if (c != '\r') {
+            append(field, c);
+          }
+        }
+        if (quoted) {
+          throw new ReportPortalException(ErrorType.INCORRECT_REQUEST,
+              "CSV quoted field is not closed");
+        }
+        if (empty) {
+          return null;
+        }
+        add(fields, field);
+        return fields;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private static void append(StringBuilder field, int c) {
+      if (field.length() == MAX_FIELD_LENGTH) {
+        throw new ReportPortalException(ErrorType.INCORRECT_REQUEST,
+            "CSV field is longer than " + MAX_FIELD_LENGTH + " characters");
+      }
+      field.append((char) c);
+    }
+
+    private static void add(List<String> fields, StringBuilder field) {
+      if (fields.size() == MAX_FIELDS) {
+        throw new ReportPortalException(ErrorType.INCORRECT_REQUEST,
+            "CSV record has more than " + MAX_FIELDS + " fields");
+      }
+      fields.add(field.toString());
+    }
+  }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.integration.provisioning;
+
+import com.epam.reportportal.auth.dao.UserRepository;
+import com.epam.reportportal.auth.entity.Metadata;
+import com.epam.reportportal.auth.entity.user.User;
+import com.epam.reportportal.auth.entity.user.UserRole;
+import com.epam.reportportal.auth.entity.user.UserType;
+import com.epam.reportportal.auth.event.UserEventPublisher;
+import com.epam.reportportal.auth.model.provisioning.ProvisionUserRQ;
+import com.epam.reportportal.auth.model.provisioning.ProvisionUserResult;
+import com.epam.reportportal.auth.model.provisioning.ProvisionUserResult.Status;
+import com.epam.reportportal.auth.model.provisioning.ProvisionUsersRS;
+import com.epam.reportportal.auth.rules.exception.ErrorType;
+import com.epam.reportportal.auth.rules.exception.ReportPortalException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Creates users of directories before their first login, so a login after onboarding finds the
+ * user and skips the creation.
+ * <p>
+ * Rows are read as they arrive and provisioned in batches. Each batch is one transaction: existing
+ * users are loaded with a single query, new users are inserted with a single statement, full names
+ * of existing users are updated with another, and creation events are stored to the outbox. A
+ * failed batch does not affect the others, provisioning the same rows again is safe.
+ */
+@Slf4j
+@Service
+public class UserProvisioningService {
+
+  private static final Set<UserType> PROVISIONED_TYPES = EnumSet.of(UserType.LDAP, UserType.SAML,
+      UserType.GITHUB);
+  private static final String SYNCHRONIZATION_DATE = "synchronizationDate";
+  private static final String USERS_METRIC = "rp.users.provisioned";
+
+  private final UserRepository userRepository;
+  private final UserEventPublisher userEventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+  private final int batchSize;
+  private final int maxRows;
+
+  public UserProvisioningService(UserRepository userRepository,
+      UserEventPublisher userEventPublisher, PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${rp.users.provision.batch-size}") int batchSize,
+      @Value("${rp.users.provision.max-rows}") int maxRows) {
+    this.userRepository = userRepository;
+    this.userEventPublisher = userEventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.meterRegistry = meterRegistry;
+    this.batchSize = batchSize;
+    this.maxRows = maxRows;
+  }
+
+  /**
+   * Provisions users row by row.
+   *
+   * @param rows Users to provision
+   * @return Results of rows
+   */
+  public ProvisionUsersRS provision(Iterator<ProvisionUserRQ> rows) {
+    ProvisionUsersRS response = new ProvisionUsersRS();
+    List<Row> batch = new ArrayList<>(batchSize);
+    int index = 0;
+    while (hasNext(rows, index + 1)) {
+      if (++index > maxRows) {
+        throw new ReportPortalException(ErrorType.INCORRECT_REQUEST,
+            "Provisioning is limited to " + maxRows
+                + " rows, rows before the limit have been provisioned");
+      }
+      batch.add(new Row(index, rows.next()));
+      if (batch.size() == batchSize) {
+        provisionBatch(batch).forEach(response::add);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      provisionBatch(batch).forEach(response::add);
+    }
+    meterRegistry.counter(USERS_METRIC, "result", "created").increment(response.getCreated());
+    meterRegistry.counter(USERS_METRIC, "result", "updated").increment(response.getUpdated());
+    meterRegistry.counter(USERS_METRIC, "result", "failed").increment(response.getFailed());
+    return response;
+  }
+
+  private static boolean hasNext(Iterator<ProvisionUserRQ> rows, int index) {
+    try {
+      return rows.hasNext();
+    } catch (RuntimeException e) {
+      throw new ReportPortalException(ErrorType.INCORRECT_REQUEST,
+          "Unable to read row " + index + ", rows before it have been provisioned: "
+              + e.getMessage());
+    }
+  }
+
+  private List<ProvisionUserResult> provisionBatch(List<Row> batch) {
+    Map<Integer, ProvisionUserResult> results = new LinkedHashMap<>();
+    Map<String, Row> valid = new LinkedHashMap<>();
+    for (Row row : batch) {
+      String error = validate(row, valid.keySet());
+      if (error != null) {
+        results.put(row.index(), failed(row, error));
+      } else {
+        valid.put(row.email(), row);
+      }
+    }
+    try {
+      transactionTemplate.executeWithoutResult(status -> provisionValid(valid, results));
+    } catch (RuntimeException e) {
+      log.warn("Unable to provision users of rows {}-{}: {}", batch.get(0).index(),
+          batch.get(batch.size() - 1).index(), e.getMessage());
+      valid.values().forEach(row -> results.put(row.index(),
+          failed(row, "Unable to provision user: " + e.getMessage())));
+    }
+    return batch.stream().map(row -> results.get(row.index())).toList();
+  }
+
+  private void provisionValid(Map<String, Row> rows, Map<Integer, ProvisionUserResult> results) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    Map<String, User> existing = userRepository.findAllByEmailIn(rows.keySet())
+        .stream()
+        .collect(Collectors.toMap(User::getEmail, Function.identity(), (first, second) -> first));
+
+    Map<Long, String> updated = new HashMap<>();
+    List<User> created = new ArrayList<>();
+    long now = LocalDateTime.now().toInstant(ZoneOffset.UTC).toEpochMilli();
+    for (Row row : rows.values()) {
+      User user = existing.get(row.email());
+      if (user == null) {
+        created.add(newUser(row, now));
+      } else if (user.getUserType() != row.type()) {
+        results.put(row.index(),
+            failed(row, "User already exists with type " + user.getUserType()));
+      } else {
+        updated.put(user.getId(), StringUtils.defaultString(row.user().getFullName()));
+        results.put(row.index(),
+            new ProvisionUserResult(row.index(), row.email(), Status.UPDATED, user.getId(), null));
+      }
+    }
+
+    Map<String, Long> ids = userRepository.insertUsers(created);
+    List<User> inserted = new ArrayList<>(ids.size());
+    for (User user : created) {
+      Row row = rows.get(user.getLogin());
+      Long id = ids.get(user.getLogin());
+      if (id == null) {
+        results.put(row.index(), failed(row, "User with the same login already exists"));
+      } else {
+        user.setId(id);
+        inserted.add(user);
+        results.put(row.index(),
+            new ProvisionUserResult(row.index(), row.email(), Status.CREATED, id, null));
+      }
+    }
+    userRepository.updateSynchronizedUsers(updated, now);
+    if (!inserted.isEmpty()) {
+      userEventPublisher.publishOnUsersCreated(inserted);
+    }
+  }
+
+  private static String validate(Row row, Set<String> emails) {
+    String email = row.email();
+    if (StringUtils.isBlank(email) || !email.contains("@")) {
+      return "Email is not valid";
+    }
+    if (row.type() == null) {
+      return "Type should be one of " + PROVISIONED_TYPES;
+    }
+    if (row.role() == null) {
+      return "Role should be one of " + EnumSet.allOf(UserRole.class);
+    }
+    if (emails.contains(email)) {
+      return "Email is duplicated";
+    }
+    return null;
+  }
+
+  private static User newUser(Row row, long now) {
+    User user = new User();
+    user.setUuid(UUID.randomUUID());
+    user.setLogin(row.email());
+    user.setEmail(row.email());
+    user.setFullName(StringUtils.defaultIfBlank(row.user().getFullName(), row.email()));
+    user.setRole(row.role());
+    user.setUserType(row.type());
+    user.setActive(Boolean.TRUE);
+    user.setExpired(false);
+    user.setMetadata(new Metadata(new HashMap<>(Map.of(SYNCHRONIZATION_DATE, now))));
+    return user;
+  }
+
+  private static ProvisionUserResult failed(Row row, String message) {
+    return new ProvisionUserResult(row.index(), row.user().getEmail(), Status.FAILED, null,
+        message);
+  }
+
+  private record Row(int index, ProvisionUserRQ user) {
+
+    String email() {
+      return StringUtils.trimToEmpty(user.getEmail()).toLowerCase(Locale.ROOT);
+    }
+
+    UserType type() {
+      return UserType.findByName(StringUtils.trimToEmpty(user.getType()))
+          .filter(PROVISIONED_TYPES::contains)
+          .orElse(null);
+    }
+
+    UserRole role() {
+      if (StringUtils.isBlank(user.getRole())) {
+        return UserRole.USER;
+      }
+      return UserRole.findByName(user.getRole().trim().toUpperCase(Locale.ROOT)).orElse(null);
+    }
+  }
+}
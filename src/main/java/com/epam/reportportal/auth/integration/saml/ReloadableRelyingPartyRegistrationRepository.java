@@ -34,7 +34,7 @@ import org.springframework.util.Assert;
 public class ReloadableRelyingPartyRegistrationRepository implements
     RelyingPartyRegistrationRepository, Iterable<RelyingPartyRegistration> {
 
-  private Map<String, RelyingPartyRegistration> byRegistrationId;
+  private volatile Map<String, RelyingPartyRegistration> byRegistrationId;
 
   public ReloadableRelyingPartyRegistrationRepository(RelyingPartyRegistration... registrations) {
     this(Arrays.asList(registrations));
@@ -46,7 +46,6 @@ public class ReloadableRelyingPartyRegistrationRepository implements
   }
 
   public void reloadRelyingParty(Collection<RelyingPartyRegistration> registrations) {
-    byRegistrationId.clear();
     byRegistrationId = createMappingToIdentityProvider(registrations);
   }
 
@@ -61,7 +60,7 @@ public class ReloadableRelyingPartyRegistrationRepository implements
           () -> "relying party duplicate identifier '" + key + "' detected.");
       result.put(key, rp);
     }
-    return Collections.synchronizedMap(result);
+    return Collections.unmodifiableMap(result);
   }
 
   @Override
@@ -17,7 +17,9 @@
 package com.epam.reportportal.auth.integration.saml;
 
 import com.epam.reportportal.auth.entity.user.User;
+import com.epam.reportportal.auth.integration.AuthIntegrationType;
 import com.epam.reportportal.auth.util.AuthUtils;
+import com.epam.reportportal.auth.util.FlowMetrics;
 import java.util.Collections;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -39,12 +41,21 @@ public class ReportPortalSamlAuthenticationManager implements AuthenticationMana
 
   private final SamlUserReplicator samlUserReplicator;
 
-  public ReportPortalSamlAuthenticationManager(SamlUserReplicator samlUserReplicator) {
+  private final FlowMetrics flowMetrics;
+
+  public ReportPortalSamlAuthenticationManager(SamlUserReplicator samlUserReplicator,
+      FlowMetrics flowMetrics) {
     this.samlUserReplicator = samlUserReplicator;
+    this.flowMetrics = flowMetrics;
   }
 
   @Override
   public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+    return flowMetrics.record(FlowMetrics.LOGIN, AuthIntegrationType.SAML.getName(),
+        () -> authenticateSaml(authentication));
+  }
+
+  private Authentication authenticateSaml(Authentication authentication) {
     if (authentication instanceof Saml2AuthenticationToken defaultSamlAuthentication) {
 
       User user = samlUserReplicator.replicateUser(defaultSamlAuthentication);
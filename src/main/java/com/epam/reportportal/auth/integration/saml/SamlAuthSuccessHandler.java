@@ -18,6 +18,7 @@ package com.epam.reportportal.auth.integration.saml;
 
 import com.epam.reportportal.auth.AuthSuccessHandler;
 import com.epam.reportportal.auth.ReportPortalClient;
+import com.epam.reportportal.auth.TokenLifetimeResolver;
 import com.epam.reportportal.auth.TokenServicesFacade;
 import jakarta.inject.Provider;
 import jakarta.servlet.ServletException;
@@ -58,7 +59,7 @@ public class SamlAuthSuccessHandler extends AuthSuccessHandler {
         (Saml2Authentication) authentication;
 
     return tokenServicesFacade.get()
-        .createToken(ReportPortalClient.ui, samlAuthentication.getName(), samlAuthentication,
-            Collections.emptyMap());
+        .createToken(ReportPortalClient.ui, TokenLifetimeResolver.SAML2_BEARER,
+            samlAuthentication.getName(), samlAuthentication, Collections.emptyMap());
   }
 }
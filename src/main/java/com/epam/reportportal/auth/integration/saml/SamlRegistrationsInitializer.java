@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.integration.saml;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.security.saml2.provider.service.registration.RelyingPartyRegistrationRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads SAML relying party registrations once the application is ready, so fetching of IDP
+ * metadata does not delay the startup. Loading state is reported as a health indicator.
+ */
+@Slf4j
+@Component
+public class SamlRegistrationsInitializer implements HealthIndicator {
+
+  private final RelyingPartyBuilder relyingPartyBuilder;
+  private final RelyingPartyRegistrationRepository relyingPartyRegistrationRepository;
+  private final TaskExecutor taskExecutor;
+
+  private volatile Health health = Health.unknown().withDetail("state", "pending").build();
+
+  public SamlRegistrationsInitializer(RelyingPartyBuilder relyingPartyBuilder,
+      RelyingPartyRegistrationRepository relyingPartyRegistrationRepository,
+      @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+      TaskExecutor taskExecutor) {
+    this.relyingPartyBuilder = relyingPartyBuilder;
+    this.relyingPartyRegistrationRepository = relyingPartyRegistrationRepository;
+    this.taskExecutor = taskExecutor;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    taskExecutor.execute(this::loadRegistrations);
+  }
+
+  void loadRegistrations() {
+    if (!(relyingPartyRegistrationRepository
+        instanceof ReloadableRelyingPartyRegistrationRepository reloadable)) {
+      return;
+    }
+    try {
+      var registrations = relyingPartyBuilder.createRelyingPartyRegistrations();
+      reloadable.reloadRelyingParty(registrations);
+      health = Health.up().withDetail("registrations", registrations.size()).build();
+    } catch (RuntimeException e) {
+      log.error("Unable to load SAML registrations", e);
+      health = Health.down(e).build();
+    }
+  }
+
+  @Override
+  public Health health() {
+    return health;
+  }
+}
@@ -95,6 +95,11 @@ public class SamlUserReplicator extends AbstractUserReplicator {
    */
   @Transactional
   public User replicateUser(Saml2AuthenticationToken samlAuthentication) {
+    return observeReplication(AuthIntegrationType.SAML.getName(),
+        () -> replicate(samlAuthentication));
+  }
+
+  private User replicate(Saml2AuthenticationToken samlAuthentication) {
     SamlResponse samlResponse;
     try {
       samlResponse = SamlResponseParser.parseSamlResponse(samlAuthentication.getSaml2Response());
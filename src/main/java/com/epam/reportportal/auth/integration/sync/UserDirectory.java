@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.integration.sync;
+
+import com.epam.reportportal.auth.entity.user.User;
+import com.epam.reportportal.auth.entity.user.UserType;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Directory users of a type are replicated from, which can be queried without the user being
+ * logged in.
+ */
+public interface UserDirectory {
+
+  /**
+   * @return Type of users replicated from the directory
+   */
+  UserType getUserType();
+
+  /**
+   * Connects to the directory.
+   *
+   * @return Lookup of users, empty if the directory is not configured
+   */
+  Optional<Lookup> connect();
+
+  /**
+   * Lookup of users in a connected directory.
+   */
+  @FunctionalInterface
+  interface Lookup {
+
+    /**
+     * Finds a page of users in the directory with a single request.
+     *
+     * @param users Users to find
+     * @return Full names of users found in the directory by user id
+     */
+    Map<Long, String> findFullNames(List<User> users);
+  }
+}
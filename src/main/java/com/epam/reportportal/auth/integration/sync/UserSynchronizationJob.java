@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.integration.sync;
+
+import com.epam.reportportal.auth.dao.UserRepository;
+import com.epam.reportportal.auth.entity.Metadata;
+import com.epam.reportportal.auth.entity.user.User;
+import com.epam.reportportal.auth.entity.user.UserType;
+import com.epam.reportportal.auth.integration.sync.UserDirectory.Lookup;
+import com.google.common.primitives.Longs;
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Refreshes users replicated from directories in the background, so their profiles stay up to date
+ * without replication on login.
+ * <p>
+ * Users not synchronized for the configured time are walked page by page in the order of their
+ * synchronization dates, continuing after the last user of the previous page. Each page is claimed
+ * in a short transaction, which stamps the synchronization date of all its users, including those
+ * the directory no longer has. Rows locked by another instance are skipped, so instances share the
+ * work. The page is then looked up in the directory with a single request outside of any
+ * transaction, and the found names are written back with a single statement. Users of a page whose
+ * lookup fails wait for the next synchronization. Directory requests are rate limited and a run is
+ * limited in pages, users left behind are picked up by the next run.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rp.users.sync.enabled", havingValue = "true")
+public class UserSynchronizationJob {
+
+  private static final String USERS_METRIC = "rp.users.sync";
+  private static final String ERRORS_METRIC = "rp.users.sync.errors";
+  private static final String SYNCHRONIZATION_DATE = "synchronizationDate";
+
+  private final List<UserDirectory> directories;
+  private final UserRepository userRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+  private final Duration maxAge;
+  private final int pageSize;
+  private final int maxPages;
+  private final RateLimiter rateLimiter;
+
+  public UserSynchronizationJob(List<UserDirectory> directories, UserRepository userRepository,
+      PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+      @Value("${rp.users.sync.max-age}") long maxAge,
+      @Value("${rp.users.sync.page-size}") int pageSize,
+      @Value("${rp.users.sync.max-pages}") int maxPages,
+      @Value("${rp.users.sync.rate}") double rate) {
+    this.directories = directories;
+    this.userRepository = userRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.meterRegistry = meterRegistry;
+    this.maxAge = Duration.ofSeconds(maxAge);
+    this.pageSize = pageSize;
+    this.maxPages = maxPages;
+    this.rateLimiter = RateLimiter.create(rate);
+  }
+
+  /**
+   * Synchronizes stale users of every directory.
+   */
+  @Scheduled(initialDelayString = "${rp.users.sync.interval}",
+      fixedDelayString = "${rp.users.sync.interval}")
+  public void synchronize() {
+    directories.forEach(this::synchronize);
+  }
+
+  void synchronize(UserDirectory directory) {
+    UserType type = directory.getUserType();
+    Optional<Lookup> lookup;
+    try {
+      lookup = directory.connect();
+    } catch (RuntimeException e) {
+      log.warn("Unable to connect to the directory of {} users: {}", type, e.getMessage());
+      return;
+    }
+    if (lookup.isEmpty()) {
+      return;
+    }
+    long deadline = now() - maxAge.toMillis();
+    Cursor cursor = Cursor.FIRST;
+    for (int page = 0; page < maxPages; page++) {
+      rateLimiter.acquire();
+      Cursor last = cursor;
+      List<User> users;
+      try {
+        users = transactionTemplate.execute(status -> claimPage(type, deadline, last));
+        if (!users.isEmpty()) {
+          synchronizePage(type, lookup.get(), users);
+        }
+      } catch (RuntimeException e) {
+        Counter.builder(ERRORS_METRIC)
+            .description("Pages of users failed to synchronize with their directory")
+            .tag("type", type.name())
+            .register(meterRegistry)
+            .increment();
+        log.warn("Unable to synchronize {} users after id {}: {}", type, last.id(),
+            e.getMessage());
+        return;
+      }
+      if (users.isEmpty()) {
+        return;
+      }
+      cursor = Cursor.of(users.get(users.size() - 1));
+    }
+    log.info("{} users are synchronized partially, the rest is left for the next run", type);
+  }
+
+  private List<User> claimPage(UserType type, long deadline, Cursor after) {
+    List<User> users = userRepository.findNotSynchronizedUsers(type.name(), deadline,
+        after.synchronizationDate(), after.id(), pageSize);
+    // blank names keep the current ones, only the synchronization date is stamped
+    userRepository.updateSynchronizedUsers(
+        users.stream().collect(Collectors.toMap(User::getId, user -> "")), now());
+    return users;
+  }
+
+  private void synchronizePage(UserType type, Lookup lookup, List<User> users) {
+    Map<Long, String> found = lookup.findFullNames(users);
+    userRepository.updateSynchronizedUsers(found, now());
+    counter(type, "updated").increment(found.size());
+    counter(type, "missing").increment(users.size() - found.size());
+  }
+
+  private Counter counter(UserType type, String result) {
+    return Counter.builder(USERS_METRIC)
+        .description("Users synchronized with their directory in the background")
+        .tag("type", type.name())
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private static long now() {
+    return LocalDateTime.now().toInstant(ZoneOffset.UTC).toEpochMilli();
+  }
+
+  /**
+   * Position of the last user of a page.
+   *
+   * @param synchronizationDate Synchronization date of the user, {@code 0} if never synchronized
+   * @param id                  User id
+   */
+  record Cursor(long synchronizationDate, long id) {
+
+    static final Cursor FIRST = new Cursor(-1, 0);
+
+    static Cursor of(User user) {
+      long synchronizationDate = Optional.ofNullable(user.getMetadata())
+          .map(Metadata::getMetadata)
+          .map(metadata -> metadata.get(SYNCHRONIZATION_DATE))
+          // dates that are not integers count as never synchronized, as in the database
+          .map(value -> value instanceof Number number ? Long.valueOf(number.longValue())
+              : Longs.tryParse(value.toString()))
+          .orElse(0L);
+      return new Cursor(synchronizationDate, user.getId());
+    }
+  }
+}
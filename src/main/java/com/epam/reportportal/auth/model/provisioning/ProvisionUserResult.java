@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.model.provisioning;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Result of provisioning a row.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@JsonInclude(Include.NON_NULL)
+public class ProvisionUserResult {
+
+  /**
+   * Outcome of provisioning a row.
+   */
+  public enum Status {
+    CREATED,
+    UPDATED,
+    FAILED
+  }
+
+  @JsonProperty(value = "row")
+  private int row;
+
+  @JsonProperty(value = "email")
+  private String email;
+
+  @JsonProperty(value = "status")
+  private Status status;
+
+  @JsonProperty(value = "id")
+  private Long id;
+
+  @JsonProperty(value = "message")
+  private String message;
+}
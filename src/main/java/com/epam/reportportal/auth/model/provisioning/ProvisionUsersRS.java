@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.model.provisioning;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Results of bulk provisioning of users, row by row.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@ToString
+public class ProvisionUsersRS {
+
+  @JsonProperty(value = "created")
+  private int created;
+
+  @JsonProperty(value = "updated")
+  private int updated;
+
+  @JsonProperty(value = "failed")
+  private int failed;
+
+  @JsonProperty(value = "results")
+  private List<ProvisionUserResult> results = new ArrayList<>();
+
+  /**
+   * Adds the result of a row and counts its status.
+   *
+   * @param result Result of a row
+   */
+  public void add(ProvisionUserResult result) {
+    switch (result.getStatus()) {
+      case CREATED -> created++;
+      case UPDATED -> updated++;
+      case FAILED -> failed++;
+    }
+    results.add(result);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.oauth;
+
+import com.epam.reportportal.auth.store.MutableClientRegistrationRepository;
+import com.epam.reportportal.auth.store.MutableClientRegistrationRepository.Snapshot;
+import java.util.List;
+import org.springframework.security.oauth2.client.userinfo.DelegatingOAuth2UserService;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.stereotype.Component;
+
+/**
+ * User services of OAuth providers, built from the current registration settings.
+ * <p>
+ * Services are rebuilt once per snapshot of client registrations, so settings changed through the
+ * configuration endpoint apply to the next login without reading the database on each login.
+ */
+@Component
+public class OAuthUserServiceRegistry implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
+
+  private final MutableClientRegistrationRepository clientRegistrationRepository;
+  private final List<OAuthProvider> providers;
+
+  private volatile ResolvedServices resolvedServices;
+
+  public OAuthUserServiceRegistry(MutableClientRegistrationRepository clientRegistrationRepository,
+      List<OAuthProvider> providers) {
+    this.clientRegistrationRepository = clientRegistrationRepository;
+    this.providers = providers;
+  }
+
+  @Override
+  public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
+    return resolve().userService().loadUser(userRequest);
+  }
+
+  private ResolvedServices resolve() {
+    Snapshot snapshot = clientRegistrationRepository.getSnapshot();
+    ResolvedServices services = resolvedServices;
+    if (services == null || services.source() != snapshot) {
+      List<OAuth2UserService<OAuth2UserRequest, OAuth2User>> userServices = providers.stream()
+          .map(provider -> provider.getUserService(snapshot.getResource(provider.getName())))
+          .toList();
+      services = new ResolvedServices(snapshot, new DelegatingOAuth2UserService<>(userServices));
+      resolvedServices = services;
+    }
+    return services;
+  }
+
+  private record ResolvedServices(Snapshot source,
+                                  OAuth2UserService<OAuth2UserRequest, OAuth2User> userService) {
+
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.store;
+
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the client registrations snapshot of every instance up to date.
+ * <p>
+ * The instance that changed a registration rebuilds its snapshot once the change is committed and
+ * notifies the others through a fanout exchange, each instance listens on its own anonymous
+ * queue. A periodic rebuild covers lost notifications and changes made outside of this service.
+ */
+@Slf4j
+@Component
+public class ClientRegistrationsSynchronizer implements SmartInitializingSingleton {
+
+  static final String REGISTRATIONS_EXCHANGE = "auth.oauth.registrations";
+
+  private final String instanceId = UUID.randomUUID().toString();
+
+  private final MutableClientRegistrationRepository clientRegistrationRepository;
+  private final RabbitTemplate rabbitTemplate;
+
+  public ClientRegistrationsSynchronizer(
+      MutableClientRegistrationRepository clientRegistrationRepository,
+      RabbitTemplate rabbitTemplate) {
+    this.clientRegistrationRepository = clientRegistrationRepository;
+    this.rabbitTemplate = rabbitTemplate;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    clientRegistrationRepository.refresh();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onRegistrationsChanged(ClientRegistrationsChangedEvent event) {
+    clientRegistrationRepository.refresh();
+    try {
+      rabbitTemplate.convertAndSend(REGISTRATIONS_EXCHANGE, "", instanceId);
+    } catch (AmqpException e) {
+      log.warn("Other instances have not been notified about changed client registration '{}', "
+          + "they will pick it up on the next periodic refresh", event.getRegistrationId(), e);
+    }
+  }
+
+  @RabbitListener(bindings = @QueueBinding(value = @Queue,
+      exchange = @Exchange(value = REGISTRATIONS_EXCHANGE, type = ExchangeTypes.FANOUT)))
+  public void onNotification(String origin) {
+    if (!instanceId.equals(origin)) {
+      clientRegistrationRepository.refresh();
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${rp.oauth.registrations.refresh-interval}",
+      initialDelayString = "${rp.oauth.registrations.refresh-interval}")
+  public void refreshPeriodically() {
+    clientRegistrationRepository.refresh();
+  }
+}
@@ -16,34 +16,55 @@
 
 package com.epam.reportportal.auth.store;
 
+import static com.epam.reportportal.auth.integration.converter.OAuthRegistrationConverters.TO_RESOURCE;
 import static com.epam.reportportal.auth.integration.converter.OAuthRegistrationConverters.TO_SPRING;
 
 import com.epam.reportportal.auth.dao.OAuthRegistrationRepository;
 import com.epam.reportportal.auth.entity.oauth.OAuthRegistration;
+import com.epam.reportportal.auth.model.settings.OAuthRegistrationResource;
 import com.epam.reportportal.auth.rules.commons.validation.Suppliers;
 import com.epam.reportportal.auth.rules.exception.ErrorType;
 import com.epam.reportportal.auth.rules.exception.ReportPortalException;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.client.registration.ClientRegistration;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * OAuth client registrations stored in the database.
+ * <p>
+ * Login redirects and callbacks are served from an immutable snapshot of converted registrations.
+ * The snapshot is rebuilt after a registration is saved or deleted, on a notification from another
+ * instance and periodically, see {@link ClientRegistrationsSynchronizer}. Every rebuild produces a
+ * new {@link Snapshot} instance, so consumers can detect changes by identity.
+ */
 @Component("mutableClientRegistrationRepository")
 public class MutableClientRegistrationRepository implements ClientRegistrationRepository {
 
   private final OAuthRegistrationRepository oAuthRegistrationRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of());
 
   @Autowired
   public MutableClientRegistrationRepository(
-      OAuthRegistrationRepository oAuthRegistrationRepository) {
+      OAuthRegistrationRepository oAuthRegistrationRepository,
+      ApplicationEventPublisher eventPublisher) {
     this.oAuthRegistrationRepository = oAuthRegistrationRepository;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
   public ClientRegistration findByRegistrationId(String registrationId) {
-    return this.oAuthRegistrationRepository.findById(registrationId).map(TO_SPRING)
+    return Optional.ofNullable(snapshot.clientRegistrations().get(registrationId))
         .orElseThrow(() -> new ReportPortalException(
             ErrorType.AUTH_INTEGRATION_NOT_FOUND,
             Suppliers.formattedSupplier("Client registration with id = {} has not been found.",
@@ -51,6 +72,13 @@ public class MutableClientRegistrationRepository implements ClientRegistrationRe
         ));
   }
 
+  /**
+   * @return Current snapshot of client registrations
+   */
+  public Snapshot getSnapshot() {
+    return snapshot;
+  }
+
   public Optional<OAuthRegistration> findOAuthRegistrationById(String registrationId) {
     return this.oAuthRegistrationRepository.findById(registrationId);
   }
@@ -60,14 +88,49 @@ public class MutableClientRegistrationRepository implements ClientRegistrationRe
   }
 
   public OAuthRegistration save(OAuthRegistration registration) {
-    return this.oAuthRegistrationRepository.save(registration);
+    OAuthRegistration saved = this.oAuthRegistrationRepository.save(registration);
+    eventPublisher.publishEvent(new ClientRegistrationsChangedEvent(saved.getId()));
+    return saved;
   }
 
   public void deleteById(String oauthProviderId) {
     oAuthRegistrationRepository.deleteById(oauthProviderId);
+    eventPublisher.publishEvent(new ClientRegistrationsChangedEvent(oauthProviderId));
+  }
+
+  /**
+   * Rebuilds the snapshot of client registrations from the primary database.
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void refresh() {
+    List<OAuthRegistration> registrations = oAuthRegistrationRepository.findAll();
+    snapshot = new Snapshot(
+        registrations.stream()
+            .collect(Collectors.toUnmodifiableMap(OAuthRegistration::getId, TO_SPRING)),
+        registrations.stream()
+            .collect(Collectors.toUnmodifiableMap(OAuthRegistration::getId, TO_RESOURCE))
+    );
   }
 
   public Collection<OAuthRegistration> findAll() {
     return oAuthRegistrationRepository.findAll();
   }
+
+  /**
+   * Immutable view of client registrations, keyed by registration ID.
+   *
+   * @param clientRegistrations Registrations converted for the OAuth client
+   * @param resources           Registrations settings, including login restrictions
+   */
+  public record Snapshot(Map<String, ClientRegistration> clientRegistrations,
+                         Map<String, OAuthRegistrationResource> resources) {
+
+    /**
+     * @param registrationId Registration ID
+     * @return Settings of the registration, empty settings if it is not registered
+     */
+    public OAuthRegistrationResource getResource(String registrationId) {
+      return resources.getOrDefault(registrationId, new OAuthRegistrationResource());
+    }
+  }
 }
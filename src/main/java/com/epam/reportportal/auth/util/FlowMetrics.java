@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Timers of authentication flow stages. Every stage is recorded with {@code provider} and
+ * {@code outcome} tags, so the count of each outcome is available from the timer as well. Timers
+ * are registered once per tag combination and reused.
+ */
+@Component
+public class FlowMetrics {
+
+  public static final String LOGIN = "rp.auth.login";
+  public static final String TOKEN_ISSUE = "rp.auth.token.issue";
+  public static final String PRINCIPAL_CONVERSION = "rp.auth.principal.conversion";
+  public static final String USER_REPLICATION = "rp.auth.user.replication";
+  public static final String DATASTORE = "rp.datastore.operation";
+
+  public static final String PROVIDER_TAG = "provider";
+  public static final String OUTCOME_TAG = "outcome";
+  public static final String SUCCESS = "success";
+  public static final String FAILURE = "failure";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+  public FlowMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Times the action and records its outcome.
+   *
+   * @param name     Timer name
+   * @param provider Authentication provider or storage type
+   * @param action   Measured action
+   * @param <T>      Result type
+   * @return Result of the action
+   */
+  public <T> T record(String name, String provider, Supplier<T> action) {
+    return record(name, Tags.of(PROVIDER_TAG, provider), action, false);
+  }
+
+  /**
+   * Times the action and records its outcome unless the action returns {@code null}, which
+   * means it has not been handled, e.g. by a disabled authentication provider.
+   *
+   * @param name     Timer name
+   * @param provider Authentication provider
+   * @param action   Measured action
+   * @param <T>      Result type
+   * @return Result of the action
+   */
+  public <T> T recordIfHandled(String name, String provider, Supplier<T> action) {
+    return record(name, Tags.of(PROVIDER_TAG, provider), action, true);
+  }
+
+  /**
+   * Times the action and records its outcome.
+   *
+   * @param name   Timer name
+   * @param tags   Timer tags
+   * @param action Measured action
+   * @param <T>    Result type
+   * @return Result of the action
+   */
+  public <T> T record(String name, Tags tags, Supplier<T> action) {
+    return record(name, tags, action, false);
+  }
+
+  /**
+   * Times the action and records its outcome.
+   *
+   * @param name   Timer name
+   * @param tags   Timer tags
+   * @param action Measured action
+   */
+  public void record(String name, Tags tags, Runnable action) {
+    record(name, tags, () -> {
+      action.run();
+      return null;
+    }, false);
+  }
+
+  private <T> T record(String name, Tags tags, Supplier<T> action, boolean skipUnhandled) {
+    long start = System.nanoTime();
+    String outcome = FAILURE;
+    try {
+      T result = action.get();
+      outcome = skipUnhandled && result == null ? null : SUCCESS;
+      return result;
+    } finally {
+      if (outcome != null) {
+        timers.computeIfAbsent(new TimerKey(name, tags.and(OUTCOME_TAG, outcome)),
+                key -> Timer.builder(key.name()).tags(key.tags()).register(meterRegistry))
+            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+
+  private record TimerKey(String name, Tags tags) {
+
+  }
+}
@@ -16,25 +16,31 @@
 
 package com.epam.reportportal.auth.util;
 
-import static com.epam.reportportal.auth.entity.project.ProjectUtils.defaultIssueTypes;
-import static com.epam.reportportal.auth.entity.project.ProjectUtils.defaultProjectAttributes;
 import static com.google.common.base.Strings.isNullOrEmpty;
 
 import com.epam.reportportal.auth.dao.AttributeRepository;
 import com.epam.reportportal.auth.dao.IssueTypeRepository;
 import com.epam.reportportal.auth.dao.ProjectRepository;
 import com.epam.reportportal.auth.entity.Metadata;
+import com.epam.reportportal.auth.entity.attribute.Attribute;
 import com.epam.reportportal.auth.entity.enums.ProjectAttributeEnum;
 import com.epam.reportportal.auth.entity.enums.TestItemIssueGroup;
+import com.epam.reportportal.auth.entity.item.issue.IssueType;
 import com.epam.reportportal.auth.entity.project.Project;
+import com.epam.reportportal.auth.entity.project.ProjectAttribute;
+import com.epam.reportportal.auth.entity.project.ProjectIssueType;
 import com.epam.reportportal.auth.entity.project.ProjectRole;
 import com.epam.reportportal.auth.entity.user.ProjectUser;
 import com.epam.reportportal.auth.entity.user.User;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Sets;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -52,6 +58,16 @@ public final class PersonalProjectService {
   private final AttributeRepository attributeRepository;
   private final IssueTypeRepository issueTypeRepository;
 
+  /**
+   * Default attributes and issue types are seeded by migrations and never change at runtime, so
+   * their ids are loaded once. Entities are not shared between projects, every project references
+   * them in the persistence context it is saved in.
+   */
+  private final Supplier<List<DefaultAttribute>> defaultAttributes = Suppliers.memoize(
+      this::loadDefaultAttributes);
+  private final Supplier<List<Long>> defaultIssueTypeIds = Suppliers.memoize(
+      this::loadDefaultIssueTypeIds);
+
   @Autowired
   public PersonalProjectService(ProjectRepository projectRepository,
       AttributeRepository attributeRepository,
@@ -62,7 +78,9 @@ public final class PersonalProjectService {
   }
 
   /**
-   * Prefix from username with replaced dots as underscores
+   * Prefix from username with replaced dots as underscores. If the prefix is already taken, the
+   * next numeric suffix after the greatest one in use is appended, so the name is allocated with a
+   * single query regardless of how many users share the prefix.
    *
    * @param username Name of user
    * @return Corresponding personal project name
@@ -70,14 +88,9 @@ public final class PersonalProjectService {
   @VisibleForTesting
   String generatePersonalProjectName(String username) {
     String initialName = getProjectPrefix(username);
-
-    String name = initialName;
-    //iterate until we find free project name
-    for (int i = 1; projectRepository.existsByName(name); i++) {
-      name = initialName + "_" + i;
-    }
-
-    return name;
+    int suffix = projectRepository.findMaxNameSuffix(initialName,
+        escapeLikePattern(initialName) + "\\_%");
+    return suffix < 0 ? initialName : initialName + "_" + (suffix + 1);
   }
 
   /**
@@ -102,17 +115,20 @@ public final class PersonalProjectService {
             : user.getFullName())
     )));
 
-    var attrs = Arrays.stream(ProjectAttributeEnum.values())
-        .map(ProjectAttributeEnum::getAttribute)
-        .collect(Collectors.toSet());
-    project.setProjectAttributes(
-        defaultProjectAttributes(project, attributeRepository.findAllByNameIn(attrs)));
-
-    var locators = Arrays.stream(TestItemIssueGroup.values())
-        .map(TestItemIssueGroup::getLocator)
-        .toList();
-    project.setProjectIssueTypes(
-        defaultIssueTypes(project, issueTypeRepository.getDefaultIssueTypes(locators)));
+    project.setProjectAttributes(defaultAttributes.get()
+        .stream()
+        .map(attribute -> new ProjectAttribute(
+            attributeRepository.getReferenceById(attribute.id()), attribute.value(), project))
+        .collect(Collectors.toSet()));
+    project.setProjectIssueTypes(defaultIssueTypeIds.get()
+        .stream()
+        .map(id -> {
+          ProjectIssueType projectIssueType = new ProjectIssueType();
+          projectIssueType.setIssueType(issueTypeRepository.getReferenceById(id));
+          projectIssueType.setProject(project);
+          return projectIssueType;
+        })
+        .collect(Collectors.toSet()));
 
     return project;
   }
@@ -127,4 +143,40 @@ public final class PersonalProjectService {
     String projectName = username.replaceAll("[.@\\-+_%!#$&'*/=?^`{|}~]", "_");
     return (projectName + PERSONAL_PROJECT_POSTFIX).toLowerCase();
   }
+
+  private List<DefaultAttribute> loadDefaultAttributes() {
+    var attrs = Arrays.stream(ProjectAttributeEnum.values())
+        .map(ProjectAttributeEnum::getAttribute)
+        .collect(Collectors.toSet());
+    Map<String, Long> ids = attributeRepository.findAllByNameIn(attrs)
+        .stream()
+        .collect(Collectors.toMap(Attribute::getName, Attribute::getId));
+    return Arrays.stream(ProjectAttributeEnum.values())
+        .filter(attribute -> ids.containsKey(attribute.getAttribute()))
+        .map(attribute -> new DefaultAttribute(ids.get(attribute.getAttribute()),
+            attribute.getDefaultValue()))
+        .toList();
+  }
+
+  private List<Long> loadDefaultIssueTypeIds() {
+    var locators = Arrays.stream(TestItemIssueGroup.values())
+        .map(TestItemIssueGroup::getLocator)
+        .toList();
+    return issueTypeRepository.getDefaultIssueTypes(locators)
+        .stream()
+        .map(IssueType::getId)
+        .toList();
+  }
+
+  private static String escapeLikePattern(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+
+  /**
+   * @param id    Attribute id
+   * @param value Default value of the attribute for a new project
+   */
+  private record DefaultAttribute(Long id, String value) {
+
+  }
 }
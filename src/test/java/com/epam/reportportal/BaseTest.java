@@ -24,6 +24,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Stream;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
@@ -59,6 +62,8 @@ public abstract class BaseTest {
 
   private static final String MIGRATIONS_PATH = "migrations/migrations/";
   public static final String DB_MIGRATION_PATH = "build/resources/test/db/migration";
+  private static final String PENDING_MIGRATIONS_PATH = "db/migrations/";
+  private static final String DB_PENDING_MIGRATION_PATH = "build/resources/test/db/pending";
 
   private static final String POSTGRES_CONTAINER = "postgres:16-alpine";
   private static final String LDAP_CONTAINER = "bitnami/openldap:latest";
@@ -111,13 +116,14 @@ public abstract class BaseTest {
 
       // get sorted list of migration files
       try (Stream<Path> copiedFiles = Files.list(Paths.get(DB_MIGRATION_PATH))) {
-        var list = copiedFiles
+        var list = new ArrayList<>(copiedFiles
             .map(Path::getFileName)
             .map(Path::toString)
             .sorted()
             .peek(System.out::println)
             .map(filename -> "db/migration/" + filename)
-            .toList();
+            .toList());
+        list.addAll(pendingMigrationScripts());
 
         postgres.withInitScripts(list);
 
@@ -126,6 +132,33 @@ public abstract class BaseTest {
     }
   }
 
+  /**
+   * Copies migrations not yet released in the migrations submodule, see db/migrations/README.md.
+   *
+   * @return classpath locations of the copied scripts in the order to apply them
+   */
+  @SneakyThrows
+  private static List<String> pendingMigrationScripts() {
+    try (Stream<Path> stream = Files.list(Paths.get(PENDING_MIGRATIONS_PATH))) {
+      return stream
+          .map(Path::getFileName)
+          .map(Path::toString)
+          .filter(filename -> filename.endsWith(".up.sql"))
+          .sorted(Comparator.comparingInt(
+              filename -> Integer.parseInt(filename.substring(0, filename.indexOf("_")))))
+          .map(filename -> {
+            try {
+              FileUtils.copyFile(new File(PENDING_MIGRATIONS_PATH + filename),
+                  new File(DB_PENDING_MIGRATION_PATH + "/" + filename));
+            } catch (IOException e) {
+              throw new RuntimeException(e);
+            }
+            return "db/pending/" + filename;
+          })
+          .toList();
+    }
+  }
+
 
   @DynamicPropertySource
   static void configureProperties(DynamicPropertyRegistry registry) {
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.server.authorization.client.InMemoryRegisteredClientRepository;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.settings.TokenSettings;
+
+class TokenLifetimeResolverTest {
+
+  private TokenLifetimeResolver resolver;
+
+  @BeforeEach
+  void setUp() {
+    RegisteredClient client = RegisteredClient.withId("ui")
+        .clientId("ui")
+        .clientAuthenticationMethod(ClientAuthenticationMethod.CLIENT_SECRET_BASIC)
+        .authorizationGrantType(AuthorizationGrantType.PASSWORD)
+        .tokenSettings(TokenSettings.builder()
+            .accessTokenTimeToLive(Duration.ofMinutes(15))
+            .setting(TokenLifetimeResolver.accessTokenTimeToLive(TokenLifetimeResolver.SAML2_BEARER),
+                Duration.ofHours(8))
+            .build())
+        .build();
+    resolver = new TokenLifetimeResolver(new InMemoryRegisteredClientRepository(client));
+  }
+
+  @Test
+  void shouldUseClientAccessTokenLifetimeWithoutGrantOverride() {
+    assertEquals(Duration.ofMinutes(15),
+        resolver.resolveAccessTokenTimeToLive("ui", AuthorizationGrantType.PASSWORD));
+  }
+
+  @Test
+  void shouldUseGrantSpecificLifetime() {
+    assertEquals(Duration.ofHours(8),
+        resolver.resolveAccessTokenTimeToLive("ui", TokenLifetimeResolver.SAML2_BEARER));
+  }
+
+  @Test
+  void shouldFailForUnknownClient() {
+    assertThrows(IllegalArgumentException.class,
+        () -> resolver.resolveAccessTokenTimeToLive("unknown", AuthorizationGrantType.PASSWORD));
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.auth.config.jwt.JwtKeyManager;
+import com.epam.reportportal.auth.util.FlowMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+class TokenServicesFacadeTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final JwtEncoder jwtEncoder = mock(JwtEncoder.class);
+  private final TokenLifetimeResolver tokenLifetimeResolver = mock(TokenLifetimeResolver.class);
+  private final JwtKeyManager jwtKeyManager = mock(JwtKeyManager.class);
+  private final TokenServicesFacade tokenServicesFacade = new TokenServicesFacade(jwtEncoder,
+      "issuer", tokenLifetimeResolver, jwtKeyManager, new FlowMetrics(meterRegistry));
+
+  @Test
+  void shouldTagTokenWithoutGrantTypeAsUnknown() {
+    Jwt jwt = new Jwt("token", Instant.now(), Instant.now().plusSeconds(60),
+        Map.of("alg", "RS256"), Map.of("sub", "user"));
+    when(tokenLifetimeResolver.resolveAccessTokenTimeToLive(eq("ui"), isNull()))
+        .thenReturn(Duration.ofMinutes(1));
+    when(jwtKeyManager.createJwsHeader()).thenReturn(JwsHeader.with(SignatureAlgorithm.RS256)
+        .build());
+    when(jwtEncoder.encode(any(JwtEncoderParameters.class))).thenReturn(jwt);
+
+    assertEquals(jwt, tokenServicesFacade.createToken("ui", null, "user", List.of(), null));
+
+    assertEquals(1, meterRegistry.get(FlowMetrics.TOKEN_ISSUE)
+        .tags("client", "ui", "grant_type", "unknown")
+        .timer()
+        .count());
+  }
+}
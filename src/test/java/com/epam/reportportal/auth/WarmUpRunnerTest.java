@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.auth.config.jwt.JwtKeyManager;
+import com.epam.reportportal.auth.util.FlowMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+class WarmUpRunnerTest {
+
+  private static final int ITERATIONS = 3;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final JwtEncoder jwtEncoder = mock(JwtEncoder.class);
+  private final JwtDecoder jwtDecoder = mock(JwtDecoder.class);
+  private final TokenLifetimeResolver tokenLifetimeResolver = mock(TokenLifetimeResolver.class);
+  private final JwtKeyManager jwtKeyManager = mock(JwtKeyManager.class);
+  private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+
+  @Test
+  void shouldNotCountWarmUpTokensAsIssued() {
+    Jwt jwt = new Jwt("token", Instant.now(), Instant.now().plusSeconds(60),
+        Map.of("alg", "HS256"), Map.of("sub", "warmup"));
+    when(tokenLifetimeResolver.resolveAccessTokenTimeToLive(any(), any()))
+        .thenReturn(Duration.ofMinutes(1));
+    when(jwtKeyManager.createJwsHeader()).thenReturn(JwsHeader.with(SignatureAlgorithm.RS256)
+        .build());
+    when(jwtEncoder.encode(any(JwtEncoderParameters.class))).thenReturn(jwt);
+    when(passwordEncoder.encode(any())).thenReturn("hash");
+
+    TokenServicesFacade tokenServicesFacade = new TokenServicesFacade(jwtEncoder, "issuer",
+        tokenLifetimeResolver, jwtKeyManager, new FlowMetrics(meterRegistry));
+    new WarmUpRunner(tokenServicesFacade, jwtDecoder, passwordEncoder, meterRegistry, ITERATIONS,
+        1).run(new DefaultApplicationArguments());
+
+    verify(jwtDecoder, times(ITERATIONS)).decode("token");
+    assertNull(meterRegistry.find(FlowMetrics.TOKEN_ISSUE).timer());
+    assertEquals(1, meterRegistry.get(WarmUpRunner.WARMUP_TIMER).timer().count());
+  }
+}
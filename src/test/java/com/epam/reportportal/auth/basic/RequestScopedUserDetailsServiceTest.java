@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.basic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class RequestScopedUserDetailsServiceTest {
+
+  private final UserDetailsService delegate = mock(UserDetailsService.class);
+  private final RequestScopedUserDetailsService service = new RequestScopedUserDetailsService(
+      delegate);
+  private final UserDetails user = User.withUsername("user").password("").roles("USER").build();
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void shouldLoadUserOncePerRequest() {
+    ServletRequestAttributes attributes = new ServletRequestAttributes(
+        new MockHttpServletRequest());
+    RequestContextHolder.setRequestAttributes(attributes);
+    when(delegate.loadUserByUsername("user")).thenReturn(user);
+
+    assertSame(user, service.loadUserByUsername("user"));
+    assertSame(user, service.loadUserByUsername("user"));
+
+    verify(delegate, times(1)).loadUserByUsername("user");
+    assertEquals(1, RequestScopedUserDetailsService.getLookupCount(attributes));
+  }
+
+  @Test
+  void shouldDelegateOutsideOfRequest() {
+    when(delegate.loadUserByUsername("user")).thenReturn(user);
+
+    service.loadUserByUsername("user");
+    service.loadUserByUsername("user");
+
+    verify(delegate, times(2)).loadUserByUsername("user");
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.config.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.junit.jupiter.api.Test;
+
+class GuavaRegionFactoryTest {
+
+  @Test
+  void shouldMonitorRegionsInProvidedRegistry() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    GuavaRegionFactory regionFactory = new GuavaRegionFactory(Duration.ofMinutes(1), 10, registry);
+
+    StorageAccess storageAccess = regionFactory.createQueryResultsRegionStorageAccess("query",
+        null);
+    storageAccess.putIntoCache("key", "value", null);
+
+    assertEquals(1, registry.get("cache.size").tag("cache", "hibernate.query").gauge().value());
+  }
+}
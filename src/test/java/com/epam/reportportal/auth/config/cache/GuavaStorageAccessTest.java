@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.config.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class GuavaStorageAccessTest {
+
+  private final AtomicLong time = new AtomicLong();
+  private final GuavaStorageAccess storage = new GuavaStorageAccess(CacheBuilder.newBuilder()
+      .expireAfterWrite(Duration.ofMinutes(5))
+      .ticker(new Ticker() {
+        @Override
+        public long read() {
+          return time.get();
+        }
+      })
+      .build());
+
+  @Test
+  void shouldExpireEntriesAfterTimeToLive() {
+    storage.putIntoCache("key", "value", null);
+    assertEquals("value", storage.getFromCache("key", null));
+
+    time.addAndGet(Duration.ofMinutes(5).toNanos());
+
+    assertNull(storage.getFromCache("key", null));
+  }
+
+  @Test
+  void shouldRemoveEntryOnNullValue() {
+    storage.putIntoCache("key", "value", null);
+    assertTrue(storage.contains("key"));
+
+    storage.putIntoCache("key", null, null);
+
+    assertFalse(storage.contains("key"));
+  }
+}
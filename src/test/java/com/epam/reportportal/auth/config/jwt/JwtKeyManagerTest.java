@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.config.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.auth.dao.ServerSettingsRepository;
+import com.epam.reportportal.auth.entity.ServerSettings;
+import com.epam.reportportal.auth.rules.exception.ReportPortalException;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import org.jasypt.util.text.BasicTextEncryptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+
+class JwtKeyManagerTest {
+
+  private final List<ServerSettings> storage = new ArrayList<>();
+  private final BasicTextEncryptor encryptor = new BasicTextEncryptor();
+  private ServerSettingsRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    encryptor.setPassword("encryptor-password");
+    repository = mock(ServerSettingsRepository.class);
+    when(repository.findAllByKeyStartingWith(anyString())).thenAnswer(
+        invocation -> List.copyOf(storage));
+    when(repository.insertIfAbsent(anyString(), anyString())).thenAnswer(invocation -> {
+      storage.add(new ServerSettings(invocation.getArgument(0), invocation.getArgument(1)));
+      return 1;
+    });
+  }
+
+  @Test
+  void shouldSignWithSharedSecretByDefault() {
+    JwtKeyManager keyManager = keyManager("HS256", Duration.ZERO);
+
+    JwsHeader header = keyManager.createJwsHeader();
+
+    assertEquals(MacAlgorithm.HS256, header.getAlgorithm());
+    assertTrue(keyManager.getPublicJwkSet().getKeys().isEmpty());
+    assertThrows(ReportPortalException.class, keyManager::rotate);
+  }
+
+  @Test
+  void shouldPublishAsymmetricKeysAndKeepPreviousOnRotation() throws JOSEException {
+    String previous = storeKey(generateKey(JWSAlgorithm.ES256));
+    JwtKeyManager keyManager = keyManager("ES256", Duration.ZERO);
+    assertEquals(previous, keyManager.createJwsHeader().getKeyId());
+
+    String current = keyManager.rotate();
+
+    JwsHeader header = keyManager.createJwsHeader();
+    assertEquals(SignatureAlgorithm.ES256, header.getAlgorithm());
+    assertEquals(current, header.getKeyId());
+    assertEquals(2, keyManager.getPublicJwkSet().getKeys().size());
+    assertNotNull(keyManager.getPublicJwkSet().getKeyByKeyId(previous));
+  }
+
+  @Test
+  void shouldSignWithPreviousKeyUntilNewOneIsActivated() throws JOSEException {
+    String previous = storeKey(generateKey(JWSAlgorithm.RS256));
+    JwtKeyManager keyManager = keyManager("RS256", Duration.ofMinutes(5));
+
+    String current = keyManager.rotate();
+
+    assertEquals(previous, keyManager.createJwsHeader().getKeyId());
+    assertNotNull(keyManager.getPublicJwkSet().getKeyByKeyId(current));
+  }
+
+  @Test
+  void shouldReadSecretGeneratedByAnotherInstance() {
+    when(repository.findByKey(JwtKeyManager.SECRET_KEY)).thenReturn(Optional.empty(),
+        Optional.of(new ServerSettings(JwtKeyManager.SECRET_KEY, "generated")));
+    when(repository.generateSecret()).thenReturn(0);
+
+    JwtKeyManager keyManager = new JwtKeyManager(repository, encryptor, "HS256", null,
+        Duration.ZERO, Duration.ZERO, Duration.ofDays(1));
+
+    assertEquals(1, keyManager.getJwkSet().getKeys().size());
+  }
+
+  @Test
+  void shouldStorePrivateKeyEncrypted() throws ParseException {
+    JwtKeyManager keyManager = keyManager("RS256", Duration.ZERO);
+
+    String keyId = keyManager.createJwsHeader().getKeyId();
+
+    assertEquals(1, storage.size());
+    String stored = storage.get(0).getValue();
+    assertFalse(stored.contains(keyId));
+    assertFalse(stored.contains("\"d\""));
+    JWK key = JWK.parse(encryptor.decrypt(stored));
+    assertEquals(keyId, key.getKeyID());
+    assertTrue(key.isPrivate());
+  }
+
+  @Test
+  void shouldEncryptKeyStoredInPlainText() throws JOSEException {
+    JWK legacy = generateKey(JWSAlgorithm.RS256);
+    String settingKey = JwtKeyManager.JWK_KEY_PREFIX + legacy.getKeyID();
+    storeKey(legacy);
+
+    JwtKeyManager keyManager = keyManager("RS256", Duration.ZERO);
+
+    assertEquals(legacy.getKeyID(), keyManager.createJwsHeader().getKeyId());
+    verify(repository, atLeastOnce()).compareAndSet(eq(settingKey), eq(legacy.toJSONString()),
+        argThat(value -> legacy.toJSONString().equals(encryptor.decrypt(value))));
+  }
+
+  private String storeKey(JWK key) {
+    storage.add(new ServerSettings(JwtKeyManager.JWK_KEY_PREFIX + key.getKeyID(),
+        key.toJSONString()));
+    return key.getKeyID();
+  }
+
+  private static JWK generateKey(JWSAlgorithm algorithm) throws JOSEException {
+    Date issueTime = Date.from(Instant.now().minus(Duration.ofHours(1)));
+    if (JWSAlgorithm.ES256.equals(algorithm)) {
+      return new ECKeyGenerator(Curve.P_256).algorithm(algorithm).keyIDFromThumbprint(true)
+          .issueTime(issueTime).generate();
+    }
+    return new RSAKeyGenerator(2048).algorithm(algorithm).keyIDFromThumbprint(true)
+        .issueTime(issueTime).generate();
+  }
+
+  private JwtKeyManager keyManager(String algorithm, Duration activationDelay) {
+    return new JwtKeyManager(repository, encryptor, algorithm, "secret-value", Duration.ZERO,
+        activationDelay, Duration.ofDays(1));
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.config.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.auth.dao.RevokedTokenRepository;
+import com.epam.reportportal.auth.entity.token.RevokedToken;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+class TokenRevocationRegistryTest {
+
+  private RevokedTokenRepository repository;
+  private TokenRevocationRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(RevokedTokenRepository.class);
+    registry = new TokenRevocationRegistry(repository, 1000, 0.001, 3_600_000L, 100L);
+  }
+
+  @Test
+  void shouldNotQueryDatabaseForValidToken() {
+    assertFalse(registry.isRevoked("valid"));
+    verify(repository, never()).existsByJti(anyString());
+  }
+
+  @Test
+  void shouldRejectRevokedToken() {
+    when(repository.existsByJti("revoked")).thenReturn(true);
+    Jwt jwt = Jwt.withTokenValue("value")
+        .header("alg", "HS256")
+        .jti("revoked")
+        .expiresAt(Instant.now().plusSeconds(60))
+        .build();
+
+    registry.revoke(jwt);
+
+    verify(repository).save(any(RevokedToken.class));
+    assertTrue(registry.validate(jwt).hasErrors());
+  }
+
+  @Test
+  void shouldPullRevocationsFromOtherNodes() {
+    RevokedToken revoked = new RevokedToken("remote", Instant.now().plusSeconds(60));
+    revoked.setId(1L);
+    when(repository.findTop1000ByIdGreaterThanOrderByIdAsc(anyLong())).thenReturn(List.of(revoked),
+        List.of());
+    when(repository.existsByJti("remote")).thenReturn(true);
+
+    registry.sync();
+
+    assertTrue(registry.isRevoked("remote"));
+  }
+
+  @Test
+  void shouldPullRevocationCommittedWithLowerId() {
+    RevokedToken early = revokedToken("early", 2L);
+    RevokedToken late = revokedToken("late", 1L);
+    when(repository.findTop1000ByIdGreaterThanOrderByIdAsc(anyLong())).thenReturn(List.of(early),
+        List.of(late, early));
+    when(repository.existsByJti("late")).thenReturn(true);
+
+    registry.sync();
+    registry.sync();
+
+    verify(repository, times(2)).findTop1000ByIdGreaterThanOrderByIdAsc(0L);
+    assertTrue(registry.isRevoked("late"));
+  }
+
+  private static RevokedToken revokedToken(String jti, long id) {
+    RevokedToken token = new RevokedToken(jti, Instant.now().plusSeconds(60));
+    token.setId(id);
+    return token;
+  }
+}
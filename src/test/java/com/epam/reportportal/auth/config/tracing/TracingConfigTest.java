@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.config.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class TracingConfigTest {
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withUserConfiguration(TracingConfig.class);
+
+  @Test
+  void shouldNotObserveRepositoriesWhenTracingIsDisabled() {
+    contextRunner.withPropertyValues("management.tracing.enabled=false")
+        .run(context -> assertThat(context)
+            .doesNotHaveBean(RepositoryObservationPostProcessor.class));
+  }
+
+  @Test
+  void shouldObserveRepositoriesWhenTracingIsEnabled() {
+    contextRunner.withPropertyValues("management.tracing.enabled=true")
+        .run(context -> assertThat(context)
+            .hasSingleBean(RepositoryObservationPostProcessor.class));
+  }
+}
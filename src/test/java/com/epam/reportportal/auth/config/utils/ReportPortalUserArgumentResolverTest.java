@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.config.utils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.auth.commons.ReportPortalUser;
+import com.epam.reportportal.auth.entity.user.UserRole;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+class ReportPortalUserArgumentResolverTest {
+
+  private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+  private final ReportPortalUserArgumentResolver resolver = new ReportPortalUserArgumentResolver(
+      userDetailsService);
+  private final ReportPortalUser user = ReportPortalUser.userBuilder()
+      .withUserName("user")
+      .withPassword("")
+      .withAuthorities(List.of())
+      .withUserId(1L)
+      .withUserRole(UserRole.USER)
+      .withOrganizationDetails(Map.of())
+      .build();
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void shouldSupportUserParameters() throws NoSuchMethodException {
+    assertTrue(resolver.supportsParameter(parameter(0)));
+    assertTrue(resolver.supportsParameter(parameter(1)));
+    assertFalse(resolver.supportsParameter(parameter(2)));
+    assertFalse(resolver.supportsParameter(parameter(3)));
+  }
+
+  @Test
+  void shouldLoadAnnotatedUserThroughUserDetailsService() throws NoSuchMethodException {
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken("user", null, List.of()));
+    when(userDetailsService.loadUserByUsername("user")).thenReturn(user);
+
+    assertSame(user, resolver.resolveArgument(parameter(1), null, null, null));
+    verify(userDetailsService).loadUserByUsername("user");
+  }
+
+  private MethodParameter parameter(int index) throws NoSuchMethodException {
+    return new MethodParameter(Handler.class.getDeclaredMethod("handle", ReportPortalUser.class,
+        ReportPortalUser.class, ReportPortalUser.class, String.class), index);
+  }
+
+  @SuppressWarnings("unused")
+  private static class Handler {
+
+    void handle(ReportPortalUser user, @AuthenticationPrincipal ReportPortalUser principal,
+        @AuthenticationPrincipal(expression = "username") ReportPortalUser expression,
+        String other) {
+    }
+  }
+}
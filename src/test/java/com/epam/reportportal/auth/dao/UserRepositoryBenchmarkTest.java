@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.reportportal.BaseTest;
+import com.epam.reportportal.auth.entity.user.User;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Scans of stale users over a million users. Run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+@Log4j2
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserRepositoryBenchmarkTest extends BaseTest {
+
+  private static final int USERS = 1_000_000;
+  private static final int PAGE_SIZE = 100;
+  private static final long DAY = 86_400_000L;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private final long now = LocalDateTime.now().toInstant(ZoneOffset.UTC).toEpochMilli();
+
+  @BeforeAll
+  void setUp() {
+    jdbcTemplate.update("""
+        INSERT INTO users (login, email, full_name, role, type, expired, active, uuid, metadata)
+        SELECT 'bench_' || i, 'bench_' || i || '@example.com', 'User ' || i, 'USER',
+            CASE WHEN i % 2 = 0 THEN 'LDAP' ELSE 'INTERNAL' END, FALSE, TRUE, gen_random_uuid(),
+            CASE WHEN i % 10 = 0 THEN '{"metadata": {}}'::jsonb
+                ELSE jsonb_build_object('metadata', jsonb_build_object('synchronizationDate',
+                    ? - (random() * 30 * ?)::bigint)) END
+        FROM generate_series(1, ?) AS i
+        """, now, DAY, USERS);
+    jdbcTemplate.execute("ANALYZE users");
+  }
+
+  @AfterAll
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM users WHERE login LIKE 'bench\\_%'");
+  }
+
+  @Test
+  void shouldScanStaleUsersWithIndexOnEveryPage() {
+    long deadline = now - DAY;
+    List<Object[]> cursors = jdbcTemplate.query("""
+            SELECT synchronization_date, id FROM users
+            WHERE type = 'LDAP' AND synchronization_date < ?
+            ORDER BY synchronization_date, id
+            OFFSET ? LIMIT 1
+            """, (rs, i) -> new Object[]{rs.getLong(1), rs.getLong(2)}, deadline,
+        USERS / 2 - USERS / 20 - PAGE_SIZE * 10);
+    assertEquals(1, cursors.size());
+    long[][] positions = {{-1, 0}, {(Long) cursors.get(0)[0], (Long) cursors.get(0)[1]}};
+
+    for (long[] position : positions) {
+      String plan = String.join("\n", jdbcTemplate.queryForList("""
+              EXPLAIN (ANALYZE, BUFFERS)
+              SELECT * FROM users
+              WHERE type = 'LDAP' AND synchronization_date < ?
+                  AND (synchronization_date, id) > (?, ?)
+              ORDER BY synchronization_date, id
+              LIMIT ?
+              """, String.class, deadline, position[0], position[1], PAGE_SIZE));
+      log.info("Page after {}:\n{}", Arrays.toString(position), plan);
+      assertTrue(plan.contains("users_type_synchronization_date_idx"), plan);
+      assertFalse(plan.contains("Seq Scan"), plan);
+
+      long start = System.nanoTime();
+      List<User> page = transactionTemplate.execute(
+          status -> userRepository.findNotSynchronizedUsers("LDAP", deadline, position[0],
+              position[1], PAGE_SIZE));
+      log.info("Page after {} loaded in {} us", Arrays.toString(position),
+          (System.nanoTime() - start) / 1000);
+      assertEquals(PAGE_SIZE, page.size());
+    }
+  }
+}
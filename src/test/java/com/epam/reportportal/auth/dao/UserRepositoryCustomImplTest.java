@@ -17,6 +17,17 @@
 package com.epam.reportportal.auth.dao;
 
 import com.epam.reportportal.BaseTest;
+import com.epam.reportportal.auth.entity.Metadata;
+import com.epam.reportportal.auth.entity.attribute.Attribute;
+import com.epam.reportportal.auth.entity.enums.ProjectAttributeEnum;
+import com.epam.reportportal.auth.entity.user.User;
+import com.epam.reportportal.auth.entity.user.UserRole;
+import com.epam.reportportal.auth.entity.user.UserType;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,6 +37,12 @@ class UserRepositoryCustomImplTest extends BaseTest {
   @Autowired
   UserRepository userRepository;
 
+  @Autowired
+  AttributeRepository attributeRepository;
+
+  @Autowired
+  EntityManagerFactory entityManagerFactory;
+
   @Test
   void findUserDetails() {
     var user = userRepository.findByLogin("admin@reportportal.internal")
@@ -39,4 +56,60 @@ class UserRepositoryCustomImplTest extends BaseTest {
     Assertions.assertTrue(user.isEmpty());
   }
 
+  @Test
+  void updateLastLoginDates() {
+    int updated = userRepository.updateLastLoginDates(
+        Map.of("admin@reportportal.internal", 1000L, "default", 2000L, "notfound", 3000L));
+
+    Assertions.assertEquals(2, updated);
+    Assertions.assertEquals(1000L, getLastLogin("admin@reportportal.internal"));
+    Assertions.assertEquals(2000L, getLastLogin("default"));
+  }
+
+  @Test
+  void updateLastLoginDatesKeepsOtherCacheRegions() {
+    Attribute attribute = attributeRepository.findAllByNameIn(
+            Set.of(ProjectAttributeEnum.NOTIFICATIONS_ENABLED.getAttribute()))
+        .iterator().next();
+    var cache = entityManagerFactory.getCache();
+    Assertions.assertTrue(cache.contains(Attribute.class, attribute.getId()));
+
+    userRepository.updateLastLoginDates(Map.of("default", 4000L));
+
+    Assertions.assertTrue(cache.contains(Attribute.class, attribute.getId()));
+  }
+
+  @Test
+  void insertUsersSkipsConflictingOnes() {
+    int count = (int) userRepository.count();
+
+    Map<String, Long> ids = userRepository.insertUsers(
+        List.of(newUser("default", "conflict@example.com"),
+            newUser("inserted", "inserted@example.com")));
+
+    Assertions.assertEquals(Set.of("inserted"), ids.keySet());
+    Assertions.assertEquals(count + 1, userRepository.count());
+    User inserted = userRepository.findByLogin("inserted").orElseThrow();
+    Assertions.assertEquals(ids.get("inserted"), inserted.getId());
+    Assertions.assertEquals(UserRole.USER, inserted.getRole());
+    Assertions.assertEquals(UserType.LDAP, inserted.getUserType());
+  }
+
+  private static User newUser(String login, String email) {
+    User user = new User();
+    user.setUuid(UUID.randomUUID());
+    user.setLogin(login);
+    user.setEmail(email);
+    user.setFullName(login);
+    user.setRole(UserRole.USER);
+    user.setUserType(UserType.LDAP);
+    user.setActive(Boolean.TRUE);
+    user.setMetadata(new Metadata(Map.of()));
+    return user;
+  }
+
+  private long getLastLogin(String login) {
+    User user = userRepository.findByLogin(login).orElseThrow();
+    return ((Number) user.getMetadata().getMetadata().get("last_login")).longValue();
+  }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.endpoint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class InfoEtagFilterTest {
+
+  private final AuthProvidersInfoContributor contributor = mock(
+      AuthProvidersInfoContributor.class);
+  private final InfoEtagFilter filter = new InfoEtagFilter(contributor, "5.0.0", 10);
+
+  @Test
+  void shouldAnswerNotModifiedWithoutInvokingEndpoint() throws Exception {
+    when(contributor.getVersion()).thenReturn("v1");
+    MockHttpServletResponse first = new MockHttpServletResponse();
+    FilterChain chain = mock(FilterChain.class);
+    filter.doFilter(new MockHttpServletRequest("GET", "/info"), first, chain);
+    String etag = first.getHeader(HttpHeaders.ETAG);
+    assertNotNull(etag);
+    assertEquals("max-age=10, public", first.getHeader(HttpHeaders.CACHE_CONTROL));
+
+    MockHttpServletRequest conditional = new MockHttpServletRequest("GET", "/info");
+    conditional.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+    MockHttpServletResponse second = new MockHttpServletResponse();
+    FilterChain conditionalChain = mock(FilterChain.class);
+    filter.doFilter(conditional, second, conditionalChain);
+
+    assertEquals(304, second.getStatus());
+    verify(conditionalChain, never()).doFilter(conditional, second);
+  }
+
+  @Test
+  void shouldChangeEtagWithProviders() throws Exception {
+    when(contributor.getVersion()).thenReturn("v1", "v2");
+    MockHttpServletResponse first = new MockHttpServletResponse();
+    filter.doFilter(new MockHttpServletRequest("GET", "/info"), first, mock(FilterChain.class));
+
+    MockHttpServletRequest conditional = new MockHttpServletRequest("GET", "/info");
+    conditional.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+    MockHttpServletResponse second = new MockHttpServletResponse();
+    FilterChain chain = mock(FilterChain.class);
+    filter.doFilter(conditional, second, chain);
+
+    assertEquals(200, second.getStatus());
+    verify(chain).doFilter(conditional, second);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.endpoint;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.epam.reportportal.BaseTest;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class ManagementEndpointSecurityTest extends BaseTest {
+
+  @Test
+  void shouldExposeLivenessAnonymously() throws Exception {
+    mockMvc.perform(get("/health/liveness")).andExpect(status().isOk());
+  }
+
+  @Test
+  void shouldRejectAnonymousHealthComponents() throws Exception {
+    mockMvc.perform(get("/health/db")).andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void shouldRejectAnonymousPrometheusScrape() throws Exception {
+    mockMvc.perform(get("/prometheus")).andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void shouldRejectPrometheusScrapeForRegularUser() throws Exception {
+    mockMvc.perform(get("/prometheus").with(token(oAuthHelper.getDefaultToken())))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void shouldRejectHealthComponentsForAdministrator() throws Exception {
+    mockMvc.perform(get("/health/db").with(token(oAuthHelper.getSuperadminToken())))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void shouldRejectScraperWithWrongPassword() throws Exception {
+    mockMvc.perform(get("/health/db").header(HttpHeaders.AUTHORIZATION, basic("wrong")))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void shouldExposeHealthComponentsToScraper() throws Exception {
+    mockMvc.perform(get("/health/db").header(HttpHeaders.AUTHORIZATION, basic("metrics-password")))
+        .andExpect(status().isOk());
+  }
+
+  private static String basic(String password) {
+    return "Basic " + HttpHeaders.encodeBasicAuth("metrics", password, StandardCharsets.UTF_8);
+  }
+}
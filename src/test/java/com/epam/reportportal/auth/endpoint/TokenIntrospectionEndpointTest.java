@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.endpoint;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.epam.reportportal.BaseTest;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class TokenIntrospectionEndpointTest extends BaseTest {
+
+  private static final String CHECK_TOKEN_URL = "/sso/oauth/check_token";
+
+  @Test
+  void shouldRejectAnonymousIntrospection() throws Exception {
+    mockMvc.perform(post(CHECK_TOKEN_URL)
+            .param("token", oAuthHelper.getDefaultToken()))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void shouldRejectIntrospectionWithUserToken() throws Exception {
+    mockMvc.perform(post(CHECK_TOKEN_URL)
+            .param("token", oAuthHelper.getDefaultToken())
+            .with(token(oAuthHelper.getDefaultToken())))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void shouldRejectIntrospectionWithWrongClientSecret() throws Exception {
+    mockMvc.perform(post(CHECK_TOKEN_URL)
+            .param("token", oAuthHelper.getDefaultToken())
+            .header(HttpHeaders.AUTHORIZATION, basic("ui", "wrong")))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void shouldIntrospectForAuthenticatedClient() throws Exception {
+    mockMvc.perform(post(CHECK_TOKEN_URL)
+            .param("token", "not-a-token")
+            .header(HttpHeaders.AUTHORIZATION, basic("ui", "uiman")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.active").value(false));
+  }
+
+  private static String basic(String clientId, String secret) {
+    return "Basic " + HttpHeaders.encodeBasicAuth(clientId, secret, StandardCharsets.UTF_8);
+  }
+}
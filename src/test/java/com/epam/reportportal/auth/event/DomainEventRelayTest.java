@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.auth.config.rabbit.AmqpPublishMetrics;
+import com.epam.reportportal.auth.dao.OutboxEventRepository;
+import com.epam.reportportal.auth.entity.outbox.OutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class DomainEventRelayTest {
+
+  private OutboxEventRepository repository;
+  private PlatformTransactionManager transactionManager;
+  private RabbitTemplate rabbitTemplate;
+  private SimpleMeterRegistry meterRegistry;
+  private DomainEventRelay relay;
+  private OutboxEvent event;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(OutboxEventRepository.class);
+    transactionManager = mock(PlatformTransactionManager.class);
+    rabbitTemplate = mock(RabbitTemplate.class);
+    meterRegistry = new SimpleMeterRegistry();
+    relay = new DomainEventRelay(repository, transactionManager, rabbitTemplate,
+        new AmqpPublishMetrics(mock(CachingConnectionFactory.class)), meterRegistry, 10, 1000,
+        1000, 60000);
+    event = new OutboxEvent("domain.events", "domain.UserCreatedEvent", "type", "{}");
+    when(repository.lockNextBatch(any(Instant.class), anyInt())).thenReturn(List.of(event));
+  }
+
+  @Test
+  void shouldRemoveConfirmedEvents() {
+    relay.relay();
+
+    verify(repository).deleteAllInBatch(List.of(event));
+    assertEquals(1, meterRegistry.get("rp.domain.events.relayed").tag("outcome", "success")
+        .counter().count());
+  }
+
+  @Test
+  void shouldCommitClaimBeforePublishing() {
+    relay.relay();
+
+    InOrder inOrder = inOrder(repository, transactionManager, rabbitTemplate);
+    inOrder.verify(repository).lockNextBatch(any(Instant.class), anyInt());
+    inOrder.verify(transactionManager).commit(any());
+    inOrder.verify(rabbitTemplate).invoke(any());
+    inOrder.verify(repository).deleteAllInBatch(List.of(event));
+    inOrder.verify(transactionManager).commit(any());
+    assertTrue(event.getNextAttemptAt().isAfter(event.getCreatedAt().plusMillis(1000)));
+  }
+
+  @Test
+  void shouldPostponeEventsOnFailure() {
+    when(rabbitTemplate.invoke(any())).thenThrow(new AmqpTimeoutException("timeout"));
+
+    relay.relay();
+
+    verify(repository, never()).deleteAllInBatch(any());
+    assertEquals(1, event.getAttempts());
+    assertTrue(event.getNextAttemptAt().isAfter(event.getCreatedAt()));
+  }
+
+  @Test
+  void shouldCapBackoff() {
+    Duration backoff = relay.backoff(30);
+    assertTrue(backoff.compareTo(Duration.ofMinutes(1)) <= 0);
+    assertTrue(backoff.compareTo(Duration.ofSeconds(30)) >= 0);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.auth.dao.UserRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LastLoginAggregatorTest {
+
+  private final List<Map<String, Long>> batches = new ArrayList<>();
+  private UserRepository userRepository;
+
+  @BeforeEach
+  void setUp() {
+    userRepository = mock(UserRepository.class);
+    when(userRepository.updateLastLoginDates(anyMap())).thenAnswer(invocation -> {
+      Map<String, Long> batch = invocation.getArgument(0);
+      batches.add(new HashMap<>(batch));
+      return batch.size();
+    });
+  }
+
+  @Test
+  void shouldCoalesceLoginsOfUser() {
+    LastLoginAggregator aggregator = new LastLoginAggregator(userRepository, 10, 1);
+
+    aggregator.record("user");
+    aggregator.record("user");
+    aggregator.record("admin");
+    aggregator.flush();
+
+    assertEquals(1, batches.size());
+    assertEquals(2, batches.get(0).size());
+  }
+
+  @Test
+  void shouldBoundFlushAndDrainOnShutdown() {
+    LastLoginAggregator aggregator = new LastLoginAggregator(userRepository, 2, 1);
+    for (int i = 0; i < 5; i++) {
+      aggregator.record("user" + i);
+    }
+
+    aggregator.flush();
+    verify(userRepository, times(1)).updateLastLoginDates(anyMap());
+
+    aggregator.drain();
+    assertEquals(3, batches.size());
+    assertEquals(5, batches.stream().mapToInt(Map::size).sum());
+  }
+}
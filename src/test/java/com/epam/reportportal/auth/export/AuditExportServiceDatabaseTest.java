@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.epam.reportportal.BaseTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class AuditExportServiceDatabaseTest extends BaseTest {
+
+  private static final String INTEGRATION_NAME = "audit-export-ldap";
+
+  @Autowired
+  private AuditExportService auditExportService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update("""
+        INSERT INTO integration (name, type, enabled, params, creator, creation_date)
+        SELECT ?, id, TRUE, CAST(? AS JSONB), 'superadmin', now()
+        FROM integration_type WHERE name = 'ldap'
+        """, INTEGRATION_NAME,
+        "{\"params\": {\"url\": \"ldap://localhost:389\", \"managerPassword\": \"secret\"}}");
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM integration WHERE name = ?", INTEGRATION_NAME);
+  }
+
+  @Test
+  void shouldMaskManagerPassword() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    auditExportService.exportIntegrations(output);
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    JsonNode integration = null;
+    for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+      JsonNode node = objectMapper.readTree(line);
+      if (INTEGRATION_NAME.equals(node.path("name").asText())) {
+        integration = node;
+      }
+    }
+    assertEquals("ldap", integration.path("type").asText());
+    assertEquals("*****", integration.path("params").path("managerPassword").asText());
+    assertEquals("ldap://localhost:389", integration.path("params").path("url").asText());
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class AuditExportServiceTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private Statement statement;
+  private ResultSet resultSet;
+  private AuditExportService service;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    DataSource dataSource = mock(DataSource.class);
+    Connection connection = mock(Connection.class);
+    statement = mock(Statement.class);
+    resultSet = mock(ResultSet.class);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.createStatement()).thenReturn(statement);
+    when(statement.executeQuery(anyString())).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true, true, false);
+    when(resultSet.getString(1)).thenReturn("{\"id\":1}", "{\"id\":2}");
+    service = new AuditExportService(dataSource, mock(PlatformTransactionManager.class),
+        meterRegistry, 500);
+  }
+
+  @Test
+  void shouldStreamRowsFromCursor() throws IOException, SQLException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    service.exportUsers(output);
+
+    assertEquals("{\"id\":1}\n{\"id\":2}\n", output.toString(StandardCharsets.UTF_8));
+    verify(statement).setFetchSize(500);
+    assertEquals(2, meterRegistry.get("rp.export.rows").tag("export", "users").counter().count());
+  }
+
+  @Test
+  void shouldStopWhenClientDisconnects() throws SQLException {
+    // rows larger than the buffer reach the client on write, not on the final flush
+    String largeRow = "x".repeat(128 * 1024);
+    when(resultSet.getString(1)).thenReturn(largeRow, largeRow);
+    OutputStream output = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("Broken pipe");
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        throw new IOException("Broken pipe");
+      }
+    };
+
+    assertThrows(IOException.class, () -> service.exportUsers(output));
+
+    verify(resultSet, times(1)).next();
+    assertEquals(0, meterRegistry.get("rp.export.rows").tag("export", "users").counter().count());
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.filesystem;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.function.Supplier;
+import org.jclouds.blobstore.BlobStore;
+import org.jclouds.blobstore.BlobStoreContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReopenableBlobStoreContextTest {
+
+  private final BlobStore firstStore = mock(BlobStore.class);
+  private final BlobStore secondStore = mock(BlobStore.class);
+  private final BlobStoreContext firstContext = mock(BlobStoreContext.class);
+  private final BlobStoreContext secondContext = mock(BlobStoreContext.class);
+
+  @SuppressWarnings("unchecked")
+  private final Supplier<BlobStoreContext> contextFactory = mock(Supplier.class);
+
+  private ReopenableBlobStoreContext reopenableContext;
+
+  @BeforeEach
+  void setUp() {
+    when(firstContext.getBlobStore()).thenReturn(firstStore);
+    when(secondContext.getBlobStore()).thenReturn(secondStore);
+    when(contextFactory.get()).thenReturn(firstContext, secondContext);
+    reopenableContext = new ReopenableBlobStoreContext(contextFactory);
+  }
+
+  @Test
+  void shouldDelegateToReopenedContextAfterRestart() {
+    BlobStore blobStore = reopenableContext.getBlobStore();
+
+    reopenableContext.stop();
+    verify(firstContext).close();
+    assertFalse(reopenableContext.isRunning());
+
+    reopenableContext.start();
+    blobStore.containerExists("bucket");
+
+    assertTrue(reopenableContext.isRunning());
+    verify(secondStore).containerExists("bucket");
+  }
+
+  @Test
+  void shouldNotReopenOnCallWhileStopped() {
+    reopenableContext.stop();
+
+    assertThrows(IllegalStateException.class,
+        () -> reopenableContext.getBlobStore().containerExists("bucket"));
+    verify(contextFactory, times(1)).get();
+  }
+
+  @Test
+  void shouldNotReopenAfterClose() {
+    reopenableContext.close();
+    reopenableContext.start();
+
+    assertFalse(reopenableContext.isRunning());
+    assertThrows(IllegalStateException.class,
+        () -> reopenableContext.getBlobStore().containerExists("bucket"));
+    verify(firstContext).close();
+    verify(contextFactory, times(1)).get();
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.integration.github;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+class GitHubClientTest {
+
+  private static final String BASE_URL = "http://github.local";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RestTemplate restTemplate = new RestTemplate();
+  private final MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+  private final GitHubRateLimiter rateLimiter = new GitHubRateLimiter(100, 3, 1, 10,
+      meterRegistry);
+  private final GitHubClient client = new GitHubClient(BASE_URL, "token", restTemplate,
+      rateLimiter);
+
+  @Test
+  void shouldRetryServerError() {
+    server.expect(once(), requestTo(BASE_URL + "/user")).andRespond(withServerError());
+    server.expect(once(), requestTo(BASE_URL + "/user"))
+        .andExpect(header(HttpHeaders.AUTHORIZATION, "bearer token"))
+        .andRespond(withSuccess("{\"login\":\"octocat\"}", MediaType.APPLICATION_JSON));
+
+    assertEquals("octocat", client.getUser().getLogin());
+    server.verify();
+    assertEquals(1, meterRegistry.counter("rp.github.requests.retried").count());
+  }
+
+  @Test
+  void shouldNotRetryClientError() {
+    server.expect(once(), requestTo(BASE_URL + "/user/emails"))
+        .andRespond(withStatus(HttpStatus.UNAUTHORIZED));
+
+    GitHubApiException e = assertThrows(GitHubApiException.class, client::getUserEmails);
+
+    assertEquals(HttpStatus.UNAUTHORIZED, e.getStatus());
+    server.verify();
+  }
+
+  @Test
+  void shouldShedOptionalRequestsWhenBudgetIsLow() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.add(GitHubRateLimiter.REMAINING_HEADER, "10");
+    headers.add(GitHubRateLimiter.RESET_HEADER,
+        String.valueOf(Instant.now().plusSeconds(600).getEpochSecond()));
+    server.expect(once(), requestTo(BASE_URL + "/user"))
+        .andRespond(withSuccess("{\"login\":\"octocat\"}", MediaType.APPLICATION_JSON)
+            .headers(headers));
+
+    client.getUser();
+
+    assertThrows(GitHubRateLimitException.class,
+        () -> client.downloadResource(BASE_URL + "/avatar"));
+    server.verify();
+    assertEquals(1, meterRegistry.counter("rp.github.requests.shed").count());
+  }
+
+  @Test
+  void shouldNotBlockAfterForbiddenWithRemainingBudget() {
+    server.expect(once(), requestTo(BASE_URL + "/user/emails"))
+        .andRespond(withStatus(HttpStatus.FORBIDDEN).headers(budgetHeaders(4000))
+            .body("{\"message\":\"Resource not accessible by integration\"}"));
+    server.expect(once(), requestTo(BASE_URL + "/user"))
+        .andRespond(withSuccess("{\"login\":\"octocat\"}", MediaType.APPLICATION_JSON));
+
+    assertThrows(GitHubApiException.class, client::getUserEmails);
+
+    assertEquals("octocat", client.getUser().getLogin());
+    server.verify();
+  }
+
+  @Test
+  void shouldBlockOnlyTokenHitBySecondaryRateLimit() {
+    server.expect(once(), requestTo(BASE_URL + "/user"))
+        .andRespond(withStatus(HttpStatus.FORBIDDEN).headers(budgetHeaders(4000))
+            .body("{\"message\":\"You have exceeded a secondary rate limit.\"}"));
+    RestTemplate otherRestTemplate = new RestTemplate();
+    MockRestServiceServer otherServer = MockRestServiceServer.bindTo(otherRestTemplate).build();
+    otherServer.expect(once(), requestTo(BASE_URL + "/user"))
+        .andRespond(withSuccess("{\"login\":\"octocat\"}", MediaType.APPLICATION_JSON));
+    GitHubClient otherClient = new GitHubClient(BASE_URL, "other", otherRestTemplate,
+        rateLimiter);
+
+    assertThrows(GitHubApiException.class, client::getUser);
+
+    assertThrows(GitHubRateLimitException.class, client::getUser);
+    assertEquals("octocat", otherClient.getUser().getLogin());
+    server.verify();
+    otherServer.verify();
+  }
+
+  private static HttpHeaders budgetHeaders(long remaining) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.add(GitHubRateLimiter.REMAINING_HEADER, String.valueOf(remaining));
+    headers.add(GitHubRateLimiter.RESET_HEADER,
+        String.valueOf(Instant.now().plusSeconds(600).getEpochSecond()));
+    return headers;
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.integration.github;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class GitHubOrganizationsCacheTest {
+
+  private final AtomicLong time = new AtomicLong();
+  private final GitHubClient client = mock(GitHubClient.class);
+  private final GitHubOrganizationsCache cache = new GitHubOrganizationsCache(
+      Duration.ofMinutes(5), 100, new SimpleMeterRegistry(), new Ticker() {
+    @Override
+    public long read() {
+      return time.get();
+    }
+  });
+
+  @Test
+  void shouldTrustMembershipsWithinTimeToLive() {
+    when(client.getUserOrganizations((String) null)).thenReturn(organizations("\"v1\"", "epam"));
+
+    assertEquals(Set.of("epam"), cache.getOrganizations("user", client));
+    assertEquals(Set.of("epam"), cache.getOrganizations("user", client));
+
+    verify(client, times(1)).getUserOrganizations((String) null);
+  }
+
+  @Test
+  void shouldRevalidateWithEtagAfterTimeToLive() {
+    when(client.getUserOrganizations((String) null)).thenReturn(organizations("\"v1\"", "epam"));
+    when(client.getUserOrganizations("\"v1\"")).thenReturn(
+        ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+    cache.getOrganizations("user", client);
+
+    time.addAndGet(Duration.ofMinutes(5).toNanos());
+
+    assertEquals(Set.of("epam"), cache.getOrganizations("user", client));
+    verify(client).getUserOrganizations("\"v1\"");
+  }
+
+  @Test
+  void shouldFailClosedWhenRevalidationIsRejected() {
+    when(client.getUserOrganizations((String) null)).thenReturn(organizations("\"v1\"", "epam"));
+    when(client.getUserOrganizations("\"v1\"")).thenThrow(
+        new GitHubRateLimitException("Rate limit budget exhausted", null));
+    cache.getOrganizations("user", client);
+
+    time.addAndGet(Duration.ofMinutes(5).toNanos());
+
+    assertThrows(GitHubRateLimitException.class, () -> cache.getOrganizations("user", client));
+  }
+
+  private static ResponseEntity<List<OrganizationResource>> organizations(String etag,
+      String login) {
+    OrganizationResource organization = new OrganizationResource();
+    organization.setLogin(login);
+    return ResponseEntity.ok().eTag(etag).body(List.of(organization));
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.integration.ldap;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.auth.dao.IntegrationRepository;
+import com.epam.reportportal.auth.entity.integration.Integration;
+import com.epam.reportportal.auth.integration.AuthIntegrationType;
+import java.util.List;
+import org.jasypt.util.text.BasicTextEncryptor;
+import org.junit.jupiter.api.Test;
+
+class LdapUserDirectoryTest {
+
+  private final IntegrationRepository integrationRepository = mock(IntegrationRepository.class);
+  private final LdapUserDirectory directory = new LdapUserDirectory(integrationRepository,
+      new BasicTextEncryptor());
+
+  @Test
+  void shouldNotConnectToDisabledIntegration() {
+    Integration integration = new Integration();
+    integration.setEnabled(false);
+    when(integrationRepository.findAllByTypeIn(AuthIntegrationType.LDAP.getName()))
+        .thenReturn(List.of(integration));
+
+    assertTrue(directory.connect().isEmpty());
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.integration.provisioning;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.reportportal.auth.model.provisioning.ProvisionUserRQ;
+import com.epam.reportportal.auth.rules.exception.ReportPortalException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import org.junit.jupiter.api.Test;
+
+class ProvisionedUsersReaderTest {
+
+  @Test
+  void shouldReadQuotedFieldsWithLineBreaks() {
+    Iterator<ProvisionUserRQ> users = ProvisionedUsersReader.fromCsv(body("""
+        email,fullName,type
+        user@example.com,"John
+        Doe",LDAP
+        """));
+
+    ProvisionUserRQ user = users.next();
+    assertEquals("user@example.com", user.getEmail());
+    assertEquals("John\nDoe", user.getFullName());
+    assertEquals("LDAP", user.getType());
+  }
+
+  @Test
+  void shouldRejectTooLongField() {
+    Iterator<ProvisionUserRQ> users = ProvisionedUsersReader.fromCsv(body(
+        "email,type\n\"" + "x".repeat(ProvisionedUsersReader.MAX_FIELD_LENGTH + 1)));
+
+    assertThrows(ReportPortalException.class, users::next);
+  }
+
+  @Test
+  void shouldRejectTooManyFields() {
+    Iterator<ProvisionUserRQ> users = ProvisionedUsersReader.fromCsv(body(
+        "email,type" + ",".repeat(ProvisionedUsersReader.MAX_FIELDS) + "\n"));
+
+    assertThrows(ReportPortalException.class, users::next);
+  }
+
+  private static ByteArrayInputStream body(String body) {
+    return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+  }
+}
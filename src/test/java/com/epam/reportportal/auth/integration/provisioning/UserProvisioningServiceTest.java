@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.integration.provisioning;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.auth.dao.UserRepository;
+import com.epam.reportportal.auth.entity.user.User;
+import com.epam.reportportal.auth.entity.user.UserRole;
+import com.epam.reportportal.auth.entity.user.UserType;
+import com.epam.reportportal.auth.event.UserEventPublisher;
+import com.epam.reportportal.auth.model.provisioning.ProvisionUserResult;
+import com.epam.reportportal.auth.model.provisioning.ProvisionUserResult.Status;
+import com.epam.reportportal.auth.model.provisioning.ProvisionUsersRS;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class UserProvisioningServiceTest {
+
+  private final UserRepository userRepository = mock(UserRepository.class);
+  private final UserEventPublisher userEventPublisher = mock(UserEventPublisher.class);
+  private final UserProvisioningService service = new UserProvisioningService(userRepository,
+      userEventPublisher, mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 2,
+      100);
+
+  @BeforeEach
+  void setUp() {
+    when(userRepository.findAllByEmailIn(anyCollection())).thenReturn(
+        List.of(user(1L, "ldap@example.com", UserType.LDAP),
+            user(2L, "internal@example.com", UserType.INTERNAL)));
+    when(userRepository.insertUsers(anyCollection())).thenAnswer(invocation -> {
+      Collection<User> users = invocation.getArgument(0);
+      return users.stream().collect(Collectors.toMap(User::getLogin, user -> 10L));
+    });
+  }
+
+  @Test
+  void shouldProvisionCsvRowByRow() {
+    ProvisionUsersRS response = service.provision(ProvisionedUsersReader.fromCsv(body("""
+        email,full_name,type,role
+        New@Example.com,"Doe, ""John""\",LDAP,
+        ldap@example.com,Updated Name,ldap,USER
+        internal@example.com,Internal,LDAP,
+        bad,Bad,LDAP,
+        other@example.com,Other,INTERNAL,
+        """)));
+
+    assertEquals(List.of(Status.CREATED, Status.UPDATED, Status.FAILED, Status.FAILED,
+        Status.FAILED), response.getResults().stream().map(ProvisionUserResult::getStatus)
+        .toList());
+    assertEquals(1, response.getCreated());
+    assertEquals(1, response.getUpdated());
+    assertEquals(3, response.getFailed());
+    ArgumentCaptor<Collection<User>> created = ArgumentCaptor.captor();
+    verify(userEventPublisher).publishOnUsersCreated(created.capture());
+    User user = created.getValue().iterator().next();
+    assertEquals("new@example.com", user.getLogin());
+    assertEquals("Doe, \"John\"", user.getFullName());
+    assertEquals(10L, user.getId());
+    verify(userRepository).updateSynchronizedUsers(eq(Map.of(1L, "Updated Name")), anyLong());
+  }
+
+  @Test
+  void shouldReportDuplicatedRowsOfNdjson() throws IOException {
+    ProvisionUsersRS response = service.provision(
+        ProvisionedUsersReader.fromNdjson(body("""
+            {"email": "saml@example.com", "type": "SAML", "role": "administrator"}
+            {"email": "saml@example.com", "type": "SAML"}
+            """), new ObjectMapper()));
+
+    assertEquals(Status.CREATED, response.getResults().get(0).getStatus());
+    assertEquals(Status.FAILED, response.getResults().get(1).getStatus());
+    assertEquals(2, response.getResults().get(1).getRow());
+  }
+
+  private static ByteArrayInputStream body(String body) {
+    return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static User user(Long id, String email, UserType type) {
+    User user = new User();
+    user.setId(id);
+    user.setLogin(email);
+    user.setEmail(email);
+    user.setUserType(type);
+    user.setRole(UserRole.USER);
+    return user;
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.integration.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.auth.dao.UserRepository;
+import com.epam.reportportal.auth.entity.Metadata;
+import com.epam.reportportal.auth.entity.user.User;
+import com.epam.reportportal.auth.entity.user.UserType;
+import com.epam.reportportal.auth.integration.sync.UserDirectory.Lookup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class UserSynchronizationJobTest {
+
+  private final UserRepository userRepository = mock(UserRepository.class);
+  private final UserDirectory directory = mock(UserDirectory.class);
+  private final PlatformTransactionManager transactionManager =
+      mock(PlatformTransactionManager.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final UserSynchronizationJob job = new UserSynchronizationJob(List.of(directory),
+      userRepository, transactionManager, meterRegistry, 3600, 2, 10, 1000);
+
+  @BeforeEach
+  void setUp() {
+    when(directory.getUserType()).thenReturn(UserType.LDAP);
+  }
+
+  @Test
+  void shouldWalkStaleUsersPageByPage() {
+    when(directory.connect()).thenReturn(
+        Optional.of(users -> Map.of(users.get(0).getId(), "Name")));
+    when(userRepository.findNotSynchronizedUsers(eq("LDAP"), anyLong(), eq(-1L), eq(0L), eq(2)))
+        .thenReturn(List.of(user(1L, null), user(2L, 1000L)));
+    when(userRepository.findNotSynchronizedUsers(eq("LDAP"), anyLong(), eq(1000L), eq(2L), eq(2)))
+        .thenReturn(List.of(user(5L, 2000L)));
+    when(userRepository.findNotSynchronizedUsers(eq("LDAP"), anyLong(), eq(2000L), eq(5L), eq(2)))
+        .thenReturn(List.of());
+
+    job.synchronize();
+
+    verify(userRepository).updateSynchronizedUsers(eq(Map.of(1L, "", 2L, "")), anyLong());
+    verify(userRepository).updateSynchronizedUsers(eq(Map.of(1L, "Name")), anyLong());
+    verify(userRepository).updateSynchronizedUsers(eq(Map.of(5L, "")), anyLong());
+    verify(userRepository).updateSynchronizedUsers(eq(Map.of(5L, "Name")), anyLong());
+    assertEquals(2, count("updated"));
+    assertEquals(1, count("missing"));
+  }
+
+  @Test
+  void shouldSkipNotConfiguredDirectory() {
+    when(directory.connect()).thenReturn(Optional.empty());
+
+    job.synchronize();
+
+    verify(userRepository, never()).updateSynchronizedUsers(anyMap(), anyLong());
+  }
+
+  @Test
+  void shouldStopOnDirectoryFailure() {
+    when(directory.connect()).thenReturn(Optional.of(users -> {
+      throw new IllegalStateException("timeout");
+    }));
+    when(userRepository.findNotSynchronizedUsers(eq("LDAP"), anyLong(), eq(-1L), eq(0L), eq(2)))
+        .thenReturn(List.of(user(1L, null), user(2L, null)));
+
+    job.synchronize();
+
+    verify(userRepository).updateSynchronizedUsers(eq(Map.of(1L, "", 2L, "")), anyLong());
+    verify(userRepository, never()).updateSynchronizedUsers(
+        argThat(fullNames -> fullNames.containsValue("Name")), anyLong());
+    assertEquals(1, meterRegistry.get("rp.users.sync.errors").counter().count());
+  }
+
+  @Test
+  void shouldStampMissingUsersSoWalkProgresses() {
+    when(directory.connect()).thenReturn(Optional.of(users -> Map.of()));
+    when(userRepository.findNotSynchronizedUsers(eq("LDAP"), anyLong(), eq(-1L), eq(0L), eq(2)))
+        .thenReturn(List.of(user(1L, null), user(2L, null)));
+    when(userRepository.findNotSynchronizedUsers(eq("LDAP"), anyLong(), eq(0L), eq(2L), eq(2)))
+        .thenReturn(List.of());
+
+    job.synchronize();
+
+    verify(userRepository).updateSynchronizedUsers(eq(Map.of(1L, "", 2L, "")), anyLong());
+    assertEquals(2, count("missing"));
+  }
+
+  @Test
+  void shouldLookUpDirectoryAfterClaimIsCommitted() {
+    Lookup lookup = mock(Lookup.class);
+    when(directory.connect()).thenReturn(Optional.of(lookup));
+    List<User> page = List.of(user(1L, null));
+    when(userRepository.findNotSynchronizedUsers(eq("LDAP"), anyLong(), eq(-1L), eq(0L), eq(2)))
+        .thenReturn(page);
+    when(lookup.findFullNames(page)).thenReturn(Map.of(1L, "Name"));
+
+    job.synchronize();
+
+    InOrder inOrder = inOrder(userRepository, transactionManager, lookup);
+    inOrder.verify(userRepository).findNotSynchronizedUsers(eq("LDAP"), anyLong(), eq(-1L),
+        eq(0L), eq(2));
+    inOrder.verify(transactionManager).commit(any());
+    inOrder.verify(lookup).findFullNames(page);
+    inOrder.verify(userRepository).updateSynchronizedUsers(eq(Map.of(1L, "Name")), anyLong());
+  }
+
+  private double count(String result) {
+    return meterRegistry.get("rp.users.sync").tag("result", result).counter().count();
+  }
+
+  private static User user(Long id, Long synchronizationDate) {
+    User user = new User();
+    user.setId(id);
+    user.setEmail("user" + id + "@example.com");
+    if (synchronizationDate != null) {
+      user.setMetadata(new Metadata(Map.of("synchronizationDate", synchronizationDate)));
+    }
+    return user;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.oauth;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.auth.model.settings.OAuthRegistrationResource;
+import com.epam.reportportal.auth.store.MutableClientRegistrationRepository;
+import com.epam.reportportal.auth.store.MutableClientRegistrationRepository.Snapshot;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+class OAuthUserServiceRegistryTest {
+
+  private final MutableClientRegistrationRepository clientRegistrationRepository = mock(
+      MutableClientRegistrationRepository.class);
+  private final OAuthProvider provider = mock(OAuthProvider.class);
+  @SuppressWarnings("unchecked")
+  private final OAuth2UserService<OAuth2UserRequest, OAuth2User> userService = mock(
+      OAuth2UserService.class);
+  private final OAuth2User user = mock(OAuth2User.class);
+
+  private OAuthUserServiceRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    when(provider.getName()).thenReturn("github");
+    when(provider.getUserService(any())).thenReturn(userService);
+    when(userService.loadUser(any())).thenReturn(user);
+    registry = new OAuthUserServiceRegistry(clientRegistrationRepository, List.of(provider));
+  }
+
+  @Test
+  void shouldBuildUserServicesOncePerSnapshot() {
+    OAuthRegistrationResource first = new OAuthRegistrationResource();
+    OAuthRegistrationResource second = new OAuthRegistrationResource();
+    second.setClientId("changed");
+    Snapshot current = snapshot(first);
+    when(clientRegistrationRepository.getSnapshot()).thenReturn(current);
+    assertSame(user, registry.loadUser(mock(OAuth2UserRequest.class)));
+    assertSame(user, registry.loadUser(mock(OAuth2UserRequest.class)));
+    verify(provider, times(1)).getUserService(first);
+
+    when(clientRegistrationRepository.getSnapshot()).thenReturn(snapshot(second));
+    registry.loadUser(mock(OAuth2UserRequest.class));
+    verify(provider, times(1)).getUserService(second);
+  }
+
+  private static Snapshot snapshot(OAuthRegistrationResource resource) {
+    return new Snapshot(Map.of(), Map.of("github", resource));
+  }
+}
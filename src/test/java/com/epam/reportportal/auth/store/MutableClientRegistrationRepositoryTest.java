@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.auth.dao.OAuthRegistrationRepository;
+import com.epam.reportportal.auth.entity.oauth.OAuthRegistration;
+import com.epam.reportportal.auth.rules.exception.ReportPortalException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+class MutableClientRegistrationRepositoryTest {
+
+  private final OAuthRegistrationRepository oAuthRegistrationRepository = mock(
+      OAuthRegistrationRepository.class);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+  private final MutableClientRegistrationRepository repository =
+      new MutableClientRegistrationRepository(oAuthRegistrationRepository, eventPublisher);
+
+  @Test
+  void shouldServeRegistrationsFromSnapshot() {
+    when(oAuthRegistrationRepository.findAll()).thenReturn(
+        List.of(registration()));
+    repository.refresh();
+
+    assertEquals("client", repository.findByRegistrationId("github").getClientId());
+    assertThrows(ReportPortalException.class, () -> repository.findByRegistrationId("unknown"));
+    verify(oAuthRegistrationRepository, never()).findById(any());
+  }
+
+  @Test
+  void shouldPublishChangeOnSave() {
+    OAuthRegistration registration = registration();
+    when(oAuthRegistrationRepository.save(registration)).thenReturn(registration);
+
+    repository.save(registration);
+
+    verify(eventPublisher).publishEvent(any(ClientRegistrationsChangedEvent.class));
+  }
+
+  private static OAuthRegistration registration() {
+    OAuthRegistration registration = new OAuthRegistration();
+    registration.setId("github");
+    registration.setClientName("github");
+    registration.setClientId("client");
+    registration.setClientSecret("secret");
+    registration.setClientAuthMethod("client_secret_basic");
+    registration.setAuthGrantType("authorization_code");
+    registration.setRedirectUrlTemplate("{baseUrl}/{action}/oauth2/code/{registrationId}");
+    registration.setAuthorizationUri("https://github.com/login/oauth/authorize");
+    registration.setTokenUri("https://github.com/login/oauth/access_token");
+    registration.setUserInfoEndpointUri("https://api.github.com/user");
+    registration.setUserInfoEndpointNameAttribute("id");
+    return registration;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.auth.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class FlowMetricsTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final FlowMetrics flowMetrics = new FlowMetrics(registry);
+
+  @Test
+  void shouldRecordOutcomeByProvider() {
+    assertEquals("user", flowMetrics.record(FlowMetrics.LOGIN, "ldap", () -> "user"));
+    assertEquals("user", flowMetrics.record(FlowMetrics.LOGIN, "ldap", () -> "user"));
+    assertThrows(IllegalStateException.class,
+        () -> flowMetrics.record(FlowMetrics.LOGIN, "ldap", () -> {
+          throw new IllegalStateException();
+        }));
+
+    assertEquals(2, registry.get(FlowMetrics.LOGIN)
+        .tags(FlowMetrics.PROVIDER_TAG, "ldap", FlowMetrics.OUTCOME_TAG, FlowMetrics.SUCCESS)
+        .timer().count());
+    assertEquals(1, registry.get(FlowMetrics.LOGIN)
+        .tags(FlowMetrics.PROVIDER_TAG, "ldap", FlowMetrics.OUTCOME_TAG, FlowMetrics.FAILURE)
+        .timer().count());
+  }
+
+  @Test
+  void shouldSkipUnhandledResult() {
+    assertNull(flowMetrics.recordIfHandled(FlowMetrics.LOGIN, "ldap", () -> null));
+
+    assertTrue(registry.find(FlowMetrics.LOGIN).timers().isEmpty());
+  }
+}
@@ -22,7 +22,10 @@ import com.epam.reportportal.auth.dao.AttributeRepository;
 import com.epam.reportportal.auth.dao.IssueTypeRepository;
 import com.epam.reportportal.auth.dao.ProjectRepository;
 import com.epam.reportportal.auth.entity.attribute.Attribute;
+import com.epam.reportportal.auth.entity.enums.ProjectAttributeEnum;
+import com.epam.reportportal.auth.entity.item.issue.IssueType;
 import com.epam.reportportal.auth.entity.project.Project;
+import com.epam.reportportal.auth.entity.project.ProjectAttribute;
 import com.epam.reportportal.auth.entity.project.ProjectRole;
 import com.epam.reportportal.auth.entity.user.ProjectUser;
 import com.epam.reportportal.auth.entity.user.User;
@@ -30,6 +33,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -82,7 +86,8 @@ class PersonalProjectServiceTest {
 
   @Test
   void generatePersonalProjectName_shouldReturnBaseNameWhenAvailable() {
-    when(projectRepository.existsByName("test_user_personal")).thenReturn(false);
+    when(projectRepository.findMaxNameSuffix("test_user_personal", "test\\_user\\_personal\\_%"))
+        .thenReturn(-1);
 
     String result = personalProjectService.generatePersonalProjectName("test.user");
     assertEquals("test_user_personal", result);
@@ -90,26 +95,24 @@ class PersonalProjectServiceTest {
 
   @Test
   void generatePersonalProjectName_shouldAddSuffixWhenNameExists() {
-    when(projectRepository.existsByName("test_user_personal")).thenReturn(true);
-    when(projectRepository.existsByName("test_user_personal_1")).thenReturn(false);
+    when(projectRepository.findMaxNameSuffix(eq("test_user_personal"), anyString())).thenReturn(0);
 
     String result = personalProjectService.generatePersonalProjectName("test.user");
     assertEquals("test_user_personal_1", result);
   }
 
   @Test
-  void generatePersonalProjectName_shouldIncrementSuffixUntilNameIsAvailable() {
-    when(projectRepository.existsByName("test_user_personal")).thenReturn(true);
-    when(projectRepository.existsByName("test_user_personal_1")).thenReturn(true);
-    when(projectRepository.existsByName("test_user_personal_2")).thenReturn(false);
+  void generatePersonalProjectName_shouldUseNextSuffixAfterGreatestOne() {
+    when(projectRepository.findMaxNameSuffix(eq("test_user_personal"), anyString())).thenReturn(41);
 
     String result = personalProjectService.generatePersonalProjectName("test.user");
-    assertEquals("test_user_personal_2", result);
+    assertEquals("test_user_personal_42", result);
+    verify(projectRepository, never()).existsByName(anyString());
   }
 
   @Test
   void generatePersonalProject_shouldCreateProjectWithCorrectName() {
-    when(projectRepository.existsByName(anyString())).thenReturn(false);
+    when(projectRepository.findMaxNameSuffix(anyString(), anyString())).thenReturn(-1);
     when(attributeRepository.findAllByNameIn(anySet())).thenReturn(Collections.emptySet());
     when(issueTypeRepository.getDefaultIssueTypes(anyList())).thenReturn(Collections.emptyList());
 
@@ -122,7 +125,7 @@ class PersonalProjectServiceTest {
 
   @Test
   void generatePersonalProject_shouldSetCorrectUserWithEditorRole() {
-    when(projectRepository.existsByName(anyString())).thenReturn(false);
+    when(projectRepository.findMaxNameSuffix(anyString(), anyString())).thenReturn(-1);
     when(attributeRepository.findAllByNameIn(anySet())).thenReturn(Collections.emptySet());
     when(issueTypeRepository.getDefaultIssueTypes(anyList())).thenReturn(Collections.emptyList());
 
@@ -134,4 +137,45 @@ class PersonalProjectServiceTest {
     assertEquals(ProjectRole.EDITOR, projectUser.getProjectRole());
     assertEquals(project, projectUser.getProject());
   }
-}
\ No newline at end of file
+
+  @Test
+  void generatePersonalProject_shouldLoadDefaultsOnce() {
+    when(projectRepository.findMaxNameSuffix(anyString(), anyString())).thenReturn(-1);
+    when(attributeRepository.findAllByNameIn(anySet())).thenReturn(Collections.emptySet());
+    when(issueTypeRepository.getDefaultIssueTypes(anyList())).thenReturn(Collections.emptyList());
+
+    personalProjectService.generatePersonalProject(testUser);
+    personalProjectService.generatePersonalProject(testUser);
+
+    verify(attributeRepository, times(1)).findAllByNameIn(anySet());
+    verify(issueTypeRepository, times(1)).getDefaultIssueTypes(anyList());
+  }
+
+  @Test
+  void generatePersonalProject_shouldReferenceDefaultsPerProject() {
+    Attribute attribute = new Attribute();
+    attribute.setId(1L);
+    attribute.setName(ProjectAttributeEnum.NOTIFICATIONS_ENABLED.getAttribute());
+    IssueType issueType = new IssueType();
+    issueType.setId(2L);
+    when(projectRepository.findMaxNameSuffix(anyString(), anyString())).thenReturn(-1);
+    when(attributeRepository.findAllByNameIn(anySet())).thenReturn(Set.of(attribute));
+    when(issueTypeRepository.getDefaultIssueTypes(anyList())).thenReturn(List.of(issueType));
+    when(attributeRepository.getReferenceById(1L)).then(invocation -> new Attribute());
+    when(issueTypeRepository.getReferenceById(2L)).then(invocation -> new IssueType());
+
+    Project first = personalProjectService.generatePersonalProject(testUser);
+    Project second = personalProjectService.generatePersonalProject(testUser);
+
+    ProjectAttribute projectAttribute = first.getProjectAttributes().iterator().next();
+    assertEquals(ProjectAttributeEnum.NOTIFICATIONS_ENABLED.getDefaultValue(),
+        projectAttribute.getValue());
+    assertEquals(first, projectAttribute.getProject());
+    assertNotSame(projectAttribute.getAttribute(),
+        second.getProjectAttributes().iterator().next().getAttribute());
+    assertNotSame(first.getProjectIssueTypes().iterator().next().getIssueType(),
+        second.getProjectIssueTypes().iterator().next().getIssueType());
+    verify(attributeRepository, times(2)).getReferenceById(1L);
+    verify(issueTypeRepository, times(2)).getReferenceById(2L);
+  }
+}